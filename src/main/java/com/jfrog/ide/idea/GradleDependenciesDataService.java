@@ -48,7 +48,7 @@ public class GradleDependenciesDataService extends AbstractProjectDataService<Li
             return;
         }
 
-        if (GlobalSettings.getInstance().areCredentialsSet()) {
+        if (GlobalSettings.getInstance().isScanEnabled()) {
             ScanManagersFactory.getInstance(project).tryScanSingleProject(project, toImport);
         }
     }
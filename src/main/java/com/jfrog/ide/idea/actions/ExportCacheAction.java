@@ -0,0 +1,69 @@
+package com.jfrog.ide.idea.actions;
+
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.fileChooser.FileChooserFactory;
+import com.intellij.openapi.fileChooser.FileSaverDescriptor;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFileWrapper;
+import com.jfrog.ide.idea.log.Logger;
+import com.jfrog.ide.idea.scan.cache.CacheBundle;
+import com.jfrog.ide.idea.scan.cache.ComponentsCache;
+import com.jfrog.ide.idea.scan.cache.ComponentsCacheService;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+
+/**
+ * Export the components cache to a bundle file, to pre-seed the caches of other machines.
+ */
+public class ExportCacheAction extends AnAction {
+
+    static final String BUNDLE_EXTENSION = "jfxc";
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        if (project == null) {
+            return;
+        }
+        FileSaverDescriptor descriptor = new FileSaverDescriptor("Export Xray Cache", "Save the Xray components cache bundle", BUNDLE_EXTENSION);
+        VirtualFileWrapper target = FileChooserFactory.getInstance().createSaveFileDialog(descriptor, project)
+                .save(null, "xray-cache." + BUNDLE_EXTENSION);
+        if (target == null) {
+            return;
+        }
+        Path file = target.getFile().toPath();
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, "Xray: Exporting Components Cache...", true) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                indicator.setIndeterminate(false);
+                try {
+                    ComponentsCache cache = ComponentsCacheService.getInstance().getFlushedCache();
+                    int exported = CacheBundle.export(file, cache, getComponentIds(project, cache), fraction -> {
+                        indicator.checkCanceled();
+                        indicator.setFraction(fraction);
+                    });
+                    Logger.getInstance(project).info("Exported " + exported + " components to " + file);
+                } catch (IOException e) {
+                    Logger.getInstance(project).error("Failed to export the components cache", e);
+                }
+            }
+        });
+    }
+
+    /**
+     * @param project - The current project
+     * @param cache   - The components cache
+     * @return the IDs of the components to export
+     * @throws IOException in case of an I/O error.
+     */
+    Collection<String> getComponentIds(Project project, ComponentsCache cache) throws IOException {
+        return cache.getComponentIds();
+    }
+}
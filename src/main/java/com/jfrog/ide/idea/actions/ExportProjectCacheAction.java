@@ -0,0 +1,23 @@
+package com.jfrog.ide.idea.actions;
+
+import com.intellij.openapi.project.Project;
+import com.jfrog.ide.idea.scan.ScanManager;
+import com.jfrog.ide.idea.scan.ScanManagersFactory;
+import com.jfrog.ide.idea.scan.cache.ComponentsCache;
+
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * Export only the cached components of the current project's dependencies trees.
+ */
+public class ExportProjectCacheAction extends ExportCacheAction {
+
+    @Override
+    Collection<String> getComponentIds(Project project, ComponentsCache cache) {
+        return ScanManagersFactory.getScanManagers(project).stream()
+                .map(ScanManager::getComponentIds)
+                .flatMap(Collection::stream)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,115 @@
+package com.jfrog.ide.idea.actions;
+
+import com.intellij.icons.AllIcons;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.fileEditor.OpenFileDescriptor;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.popup.JBPopupFactory;
+import com.intellij.openapi.ui.popup.PopupStep;
+import com.intellij.openapi.ui.popup.util.BaseListPopupStep;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.ui.awt.RelativePoint;
+import com.jfrog.ide.idea.inspections.DependencyDeclarationsIndex;
+import com.jfrog.ide.idea.ui.issues.IssuesTree;
+import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jfrog.build.extractor.scan.DependenciesTree;
+
+import java.awt.*;
+import java.util.List;
+
+/**
+ * Navigate from a component in the issues tree to its declarations in the package descriptors of the project.
+ * The declarations are looked up in the dependency declarations index, so the descriptors are not parsed.
+ */
+public class FindDeclarationsAction extends AnAction {
+
+    private IssuesTree issuesTree;
+
+    private FindDeclarationsAction() {
+        super("Find Declarations", "Find declarations of vulnerable component", AllIcons.Actions.Find);
+    }
+
+    public FindDeclarationsAction(@NotNull IssuesTree issuesTree) {
+        this();
+        this.issuesTree = issuesTree;
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        e.getPresentation().setEnabled(project != null && !DumbService.isDumb(project) && getSelectedComponent() != null);
+    }
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        DependenciesTree node = getSelectedComponent();
+        if (project == null || node == null) {
+            return;
+        }
+        List<OpenFileDescriptor> declarations = ReadAction.compute(() -> DependencyDeclarationsIndex.findDeclarations(project, node));
+        if (declarations.isEmpty()) {
+            JBPopupFactory.getInstance().createMessage("No declarations of " + node + " found").show(getPopupPoint());
+            return;
+        }
+        if (declarations.size() == 1) {
+            declarations.get(0).navigate(true);
+            return;
+        }
+        JBPopupFactory.getInstance().createListPopup(new BaseListPopupStep<OpenFileDescriptor>("Declarations of " + node, declarations) {
+            @NotNull
+            @Override
+            public String getTextFor(OpenFileDescriptor declaration) {
+                return getDeclarationText(project, declaration);
+            }
+
+            @Override
+            public PopupStep onChosen(OpenFileDescriptor declaration, boolean finalChoice) {
+                return doFinalStep(() -> declaration.navigate(true));
+            }
+        }).show(getPopupPoint());
+    }
+
+    /**
+     * Return the selected node if it is a component. The root has no declarations.
+     *
+     * @return the selected component or null
+     */
+    private DependenciesTree getSelectedComponent() {
+        if (issuesTree == null || issuesTree.getSelectionCount() != 1) {
+            return null;
+        }
+        Object selected = issuesTree.getSelectionPath().getLastPathComponent();
+        if (!(selected instanceof DependenciesTree) || ((DependenciesTree) selected).getParent() == null) {
+            return null;
+        }
+        return (DependenciesTree) selected;
+    }
+
+    private RelativePoint getPopupPoint() {
+        Rectangle bounds = issuesTree.getPathBounds(issuesTree.getSelectionPath());
+        return bounds != null ? new RelativePoint(issuesTree, new Point(bounds.x, bounds.y + bounds.height)) : RelativePoint.getCenterOf(issuesTree);
+    }
+
+    /**
+     * @return the text of the declaration in the list - "path/to/descriptor:line"
+     */
+    private static String getDeclarationText(Project project, OpenFileDescriptor declaration) {
+        VirtualFile file = declaration.getFile();
+        VirtualFile baseDir = project.getBaseDir();
+        String path = baseDir != null ? VfsUtilCore.getRelativePath(file, baseDir) : null;
+        Document document = FileDocumentManager.getInstance().getDocument(file);
+        String text = StringUtils.defaultIfBlank(path, file.getPresentableUrl());
+        if (document == null || declaration.getOffset() > document.getTextLength()) {
+            return text;
+        }
+        return text + ":" + (document.getLineNumber(declaration.getOffset()) + 1);
+    }
+}
@@ -0,0 +1,55 @@
+package com.jfrog.ide.idea.actions;
+
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.fileChooser.FileChooser;
+import com.intellij.openapi.fileChooser.FileChooserDescriptorFactory;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.jfrog.ide.idea.log.Logger;
+import com.jfrog.ide.idea.scan.cache.CacheBundle;
+import com.jfrog.ide.idea.scan.cache.ComponentsCacheService;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static com.jfrog.ide.idea.actions.ExportCacheAction.BUNDLE_EXTENSION;
+
+/**
+ * Import a bundle file created by {@link ExportCacheAction} and merge it into the components cache.
+ */
+public class ImportCacheAction extends AnAction {
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        if (project == null) {
+            return;
+        }
+        VirtualFile bundle = FileChooser.chooseFile(FileChooserDescriptorFactory.createSingleFileDescriptor(BUNDLE_EXTENSION), project, null);
+        if (bundle == null) {
+            return;
+        }
+        Path file = VfsUtilCore.virtualToIoFile(bundle).toPath();
+        ProgressManager.getInstance().run(new Task.Backgroundable(project, "Xray: Importing Components Cache...", true) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                indicator.setIndeterminate(false);
+                try {
+                    int merged = CacheBundle.importBundle(file, ComponentsCacheService.getInstance().getFlushedCache(), fraction -> {
+                        indicator.checkCanceled();
+                        indicator.setFraction(fraction);
+                    });
+                    Logger.getInstance(project).info("Imported " + merged + " components from " + file);
+                } catch (IOException e) {
+                    Logger.getInstance(project).error("Failed to import the components cache", e);
+                }
+            }
+        });
+    }
+}
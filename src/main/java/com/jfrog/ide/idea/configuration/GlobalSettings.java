@@ -51,6 +51,13 @@ public final class GlobalSettings implements ApplicationComponent, PersistentSta
         settings.xrayConfig.setUsername(null);
         settings.xrayConfig.setUrl(this.xrayConfig.getUrl());
         settings.xrayConfig.setExcludedPaths(this.xrayConfig.getExcludedPaths());
+        settings.xrayConfig.setCacheMaxSizeMb(this.xrayConfig.getCacheMaxSizeMb());
+        settings.xrayConfig.setCacheTtlHours(this.xrayConfig.getCacheTtlHours());
+        settings.xrayConfig.setOfflineMode(this.xrayConfig.isOfflineMode());
+        settings.xrayConfig.setInternalComponents(this.xrayConfig.getInternalComponents());
+        settings.xrayConfig.setMaxConcurrentRequests(this.xrayConfig.getMaxConcurrentRequests());
+        settings.xrayConfig.setMaxRequestsPerSecond(this.xrayConfig.getMaxRequestsPerSecond());
+        settings.xrayConfig.setMaxComponentsPerSecond(this.xrayConfig.getMaxComponentsPerSecond());
         return settings;
     }
 
@@ -95,12 +102,27 @@ public final class GlobalSettings implements ApplicationComponent, PersistentSta
     public void setCommonConfigFields(XrayServerConfigImpl xrayConfig) {
         this.xrayConfig.setUrl(xrayConfig.getUrl());
         this.xrayConfig.setExcludedPaths(xrayConfig.getExcludedPaths());
+        this.xrayConfig.setCacheMaxSizeMb(xrayConfig.getCacheMaxSizeMb());
+        this.xrayConfig.setCacheTtlHours(xrayConfig.getCacheTtlHours());
+        this.xrayConfig.setOfflineMode(xrayConfig.isOfflineMode());
+        this.xrayConfig.setInternalComponents(xrayConfig.getInternalComponents());
+        this.xrayConfig.setMaxConcurrentRequests(xrayConfig.getMaxConcurrentRequests());
+        this.xrayConfig.setMaxRequestsPerSecond(xrayConfig.getMaxRequestsPerSecond());
+        this.xrayConfig.setMaxComponentsPerSecond(xrayConfig.getMaxComponentsPerSecond());
     }
 
     public boolean areCredentialsSet() {
         return xrayConfig != null && !xrayConfig.isEmpty();
     }
 
+    /**
+     * @return true if scans can run. That is if Xray is configured, or if the offline mode is enabled, in which case
+     * scans read the results only from the local cache.
+     */
+    public boolean isScanEnabled() {
+        return areCredentialsSet() || (xrayConfig != null && xrayConfig.isOfflineMode());
+    }
+
     /**
      * Perform credentials migration from file to PasswordSafe.
      * If credentials were stored on file, set the new values from it, save to PasswordSafe
@@ -52,6 +52,11 @@ import static org.apache.commons.lang3.StringUtils.trim;
 public class XrayServerConfigImpl implements XrayServerConfig {
     private static final String XRAY_SETTINGS_CREDENTIALS_KEY = "com.jfrog.xray.idea";
     public static final String DEFAULT_EXCLUSIONS = "**/*{.idea,test,node_modules}*";
+    public static final int DEFAULT_CACHE_MAX_SIZE_MB = 500;
+    public static final int DEFAULT_CACHE_TTL_HOURS = 24;
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 4;
+    public static final int DEFAULT_MAX_REQUESTS_PER_SECOND = 10;
+    public static final int DEFAULT_MAX_COMPONENTS_PER_SECOND = 2000;
 
     @OptionTag
     private String url;
@@ -61,6 +66,20 @@ public class XrayServerConfigImpl implements XrayServerConfig {
     private String password;
     @Tag
     private String excludedPaths; // Pattern of project paths to exclude from Xray scanning for npm
+    @OptionTag
+    private int cacheMaxSizeMb; // Maximal size of the components cache
+    @OptionTag
+    private int cacheTtlHours; // Time to keep a component in the cache before querying Xray again
+    @OptionTag
+    private boolean offlineMode; // Show results only from the local cache, without querying Xray
+    @OptionTag
+    private String internalComponents; // Comma separated patterns of internal components, which are never sent to Xray
+    @OptionTag
+    private int maxConcurrentRequests; // Maximal number of component summary requests in flight during a scan
+    @OptionTag
+    private int maxRequestsPerSecond; // Maximal rate of Xray requests of all projects
+    @OptionTag
+    private int maxComponentsPerSecond; // Maximal rate of components sent to Xray by all projects
 
     XrayServerConfigImpl() {
     }
@@ -70,6 +89,13 @@ public class XrayServerConfigImpl implements XrayServerConfig {
         this.username = builder.username;
         this.password = builder.password;
         this.excludedPaths = builder.excludedPaths;
+        this.cacheMaxSizeMb = builder.cacheMaxSizeMb;
+        this.cacheTtlHours = builder.cacheTtlHours;
+        this.offlineMode = builder.offlineMode;
+        this.internalComponents = builder.internalComponents;
+        this.maxConcurrentRequests = builder.maxConcurrentRequests;
+        this.maxRequestsPerSecond = builder.maxRequestsPerSecond;
+        this.maxComponentsPerSecond = builder.maxComponentsPerSecond;
     }
 
     boolean isEmpty() {
@@ -86,7 +112,14 @@ public class XrayServerConfigImpl implements XrayServerConfig {
         return Comparing.equal(getUrl(), other.getUrl()) &&
                 Comparing.equal(getPassword(), other.getPassword()) &&
                 Comparing.equal(getUsername(), other.getUsername()) &&
-                Comparing.equal(getExcludedPaths(), other.getExcludedPaths());
+                Comparing.equal(getExcludedPaths(), other.getExcludedPaths()) &&
+                getCacheMaxSizeMb() == other.getCacheMaxSizeMb() &&
+                getCacheTtlHours() == other.getCacheTtlHours() &&
+                isOfflineMode() == other.isOfflineMode() &&
+                Comparing.equal(getInternalComponents(), other.getInternalComponents()) &&
+                getMaxConcurrentRequests() == other.getMaxConcurrentRequests() &&
+                getMaxRequestsPerSecond() == other.getMaxRequestsPerSecond() &&
+                getMaxComponentsPerSecond() == other.getMaxComponentsPerSecond();
     }
 
     @Override
@@ -164,6 +197,62 @@ public class XrayServerConfigImpl implements XrayServerConfig {
         this.excludedPaths = excludedPaths;
     }
 
+    public int getCacheMaxSizeMb() {
+        return cacheMaxSizeMb > 0 ? cacheMaxSizeMb : DEFAULT_CACHE_MAX_SIZE_MB;
+    }
+
+    void setCacheMaxSizeMb(int cacheMaxSizeMb) {
+        this.cacheMaxSizeMb = cacheMaxSizeMb;
+    }
+
+    public int getCacheTtlHours() {
+        return cacheTtlHours > 0 ? cacheTtlHours : DEFAULT_CACHE_TTL_HOURS;
+    }
+
+    void setCacheTtlHours(int cacheTtlHours) {
+        this.cacheTtlHours = cacheTtlHours;
+    }
+
+    public boolean isOfflineMode() {
+        return offlineMode;
+    }
+
+    void setOfflineMode(boolean offlineMode) {
+        this.offlineMode = offlineMode;
+    }
+
+    public String getInternalComponents() {
+        return StringUtils.defaultString(internalComponents);
+    }
+
+    void setInternalComponents(String internalComponents) {
+        this.internalComponents = internalComponents;
+    }
+
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests > 0 ? maxConcurrentRequests : DEFAULT_MAX_CONCURRENT_REQUESTS;
+    }
+
+    void setMaxConcurrentRequests(int maxConcurrentRequests) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    public int getMaxRequestsPerSecond() {
+        return maxRequestsPerSecond > 0 ? maxRequestsPerSecond : DEFAULT_MAX_REQUESTS_PER_SECOND;
+    }
+
+    void setMaxRequestsPerSecond(int maxRequestsPerSecond) {
+        this.maxRequestsPerSecond = maxRequestsPerSecond;
+    }
+
+    public int getMaxComponentsPerSecond() {
+        return maxComponentsPerSecond > 0 ? maxComponentsPerSecond : DEFAULT_MAX_COMPONENTS_PER_SECOND;
+    }
+
+    void setMaxComponentsPerSecond(int maxComponentsPerSecond) {
+        this.maxComponentsPerSecond = maxComponentsPerSecond;
+    }
+
     @Override
     public ProxyConfig getProxyConfForTargetUrl(String xrayUrl) {
         HttpConfigurable httpConfigurable = HttpConfigurable.getInstance();
@@ -215,6 +304,13 @@ public class XrayServerConfigImpl implements XrayServerConfig {
         private String username;
         private String password;
         private String excludedPaths;
+        private int cacheMaxSizeMb;
+        private int cacheTtlHours;
+        private boolean offlineMode;
+        private String internalComponents;
+        private int maxConcurrentRequests;
+        private int maxRequestsPerSecond;
+        private int maxComponentsPerSecond;
 
         private Builder() {
             // no args
@@ -247,5 +343,40 @@ public class XrayServerConfigImpl implements XrayServerConfig {
             this.excludedPaths = excludedPaths;
             return this;
         }
+
+        public Builder setCacheMaxSizeMb(int cacheMaxSizeMb) {
+            this.cacheMaxSizeMb = cacheMaxSizeMb;
+            return this;
+        }
+
+        public Builder setCacheTtlHours(int cacheTtlHours) {
+            this.cacheTtlHours = cacheTtlHours;
+            return this;
+        }
+
+        public Builder setOfflineMode(boolean offlineMode) {
+            this.offlineMode = offlineMode;
+            return this;
+        }
+
+        public Builder setInternalComponents(@Nullable String internalComponents) {
+            this.internalComponents = internalComponents;
+            return this;
+        }
+
+        public Builder setMaxConcurrentRequests(int maxConcurrentRequests) {
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+
+        public Builder setMaxRequestsPerSecond(int maxRequestsPerSecond) {
+            this.maxRequestsPerSecond = maxRequestsPerSecond;
+            return this;
+        }
+
+        public Builder setMaxComponentsPerSecond(int maxComponentsPerSecond) {
+            this.maxComponentsPerSecond = maxComponentsPerSecond;
+            return this;
+        }
     }
 }
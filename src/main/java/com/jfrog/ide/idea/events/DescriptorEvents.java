@@ -0,0 +1,20 @@
+package com.jfrog.ide.idea.events;
+
+import com.intellij.util.messages.Topic;
+
+import java.nio.file.Path;
+import java.util.Set;
+
+/**
+ * Package descriptors events.
+ */
+public interface DescriptorEvents {
+    Topic<DescriptorEvents> ON_SCAN_DESCRIPTORS_CHANGE = Topic.create("Scan results of package descriptors changed", DescriptorEvents.class);
+
+    /**
+     * Called after a scan, if the scan results of the package descriptors changed.
+     *
+     * @param descriptors - Paths to the package descriptors, e.g. pom.xml files of all modules
+     */
+    void update(Set<Path> descriptors);
+}
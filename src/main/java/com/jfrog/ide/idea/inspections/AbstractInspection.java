@@ -3,13 +3,17 @@ package com.jfrog.ide.idea.inspections;
 import com.google.common.collect.Sets;
 import com.intellij.codeInspection.LocalInspectionTool;
 import com.intellij.codeInspection.ProblemsHolder;
-import com.intellij.lang.annotation.AnnotationHolder;
-import com.intellij.lang.annotation.Annotator;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.openapi.wm.ToolWindow;
 import com.intellij.openapi.wm.ToolWindowManager;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiTreeUtil;
 import com.jfrog.ide.idea.scan.ScanManager;
 import com.jfrog.ide.idea.ui.issues.IssuesTree;
 import org.apache.commons.collections4.CollectionUtils;
@@ -17,24 +21,39 @@ import org.apache.commons.lang3.StringUtils;
 import org.jfrog.build.extractor.scan.DependenciesTree;
 import org.jfrog.build.extractor.scan.GeneralInfo;
 
+import javax.swing.tree.TreeModel;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
- * Parent class of all inspections and annotations.
+ * Parent class of all inspections.
  * The inspections are the "Show in dependencies tree" action.
- * The annotations are the "Top issue" and "Licenses" labels.
+ * The dependencies of each package descriptor are resolved once per file modification and scan, and shared with the
+ * {@link DependenciesAnnotator}, which shows the "Top issue" and "Licenses" labels.
  *
  * @author yahavi
  */
-public abstract class AbstractInspection extends LocalInspectionTool implements Annotator {
+public abstract class AbstractInspection extends LocalInspectionTool {
+
+    private static final Key<CachedValue<InspectionContext>> INSPECTION_CONTEXT = Key.create("JFrog.InspectionContext");
+    private static final Key<CachedValue<Map<DependenciesTree, DependencyIndex>>> DEPENDENCY_INDEXES = Key.create("JFrog.DependencyIndexes");
 
     private String packageDescriptorName;
+    private Class<? extends PsiElement> dependencyElementClass;
 
-    AbstractInspection(String packageDescriptorName) {
+    /**
+     * @param packageDescriptorName  - The name of the package descriptor file
+     * @param dependencyElementClass - The class of the Psi elements which may be dependencies
+     */
+    AbstractInspection(String packageDescriptorName, Class<? extends PsiElement> dependencyElementClass) {
         this.packageDescriptorName = packageDescriptorName;
+        this.dependencyElementClass = dependencyElementClass;
     }
 
     /**
@@ -44,23 +63,39 @@ public abstract class AbstractInspection extends LocalInspectionTool implements
      * @param element        - The Psi element in the package descriptor
      */
     void visitElement(ProblemsHolder problemsHolder, PsiElement element) {
-        List<DependenciesTree> dependencies = getDependencies(element);
+        List<DependenciesTree> dependencies = getFileDependencies(element.getContainingFile()).get(element);
         if (CollectionUtils.isNotEmpty(dependencies)) {
-            InspectionUtils.registerProblem(problemsHolder, dependencies, getTargetElements(element));
+            IssuesTree issuesTree = IssuesTree.getInstance(element.getProject());
+            List<AnnotationPayload> payloads = dependencies.stream()
+                    .map(issuesTree::getAnnotationPayload)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+            InspectionUtils.registerProblem(problemsHolder, payloads, getTargetElements(element));
         }
     }
 
     /**
-     * Get Psi element and decide whether to add licenses and top issue annotations.
+     * Get the dependencies tree nodes of all dependencies in the package descriptor. The dependencies are resolved in
+     * one pass over the file, once per file modification and scan, and shared by the inspection and the annotator.
      *
-     * @param annotationHolder - The annotations will be registered in this container
-     * @param element          - The Psi element in the package descriptor
+     * @param file - The package descriptor
+     * @return map of dependency element to its dependencies tree nodes. Elements without nodes are omitted.
      */
-    void visitElement(AnnotationHolder annotationHolder, PsiElement element) {
-        List<DependenciesTree> dependencies = getDependencies(element);
-        if (CollectionUtils.isNotEmpty(dependencies)) {
-            AnnotationUtils.registerAnnotation(annotationHolder, dependencies.get(0), getTargetElements(element));
+    Map<PsiElement, List<DependenciesTree>> getFileDependencies(PsiFile file) {
+        InspectionContext context = getInspectionContext(file);
+        if (!context.isApplicable()) {
+            return Collections.emptyMap();
         }
+        return context.getDependencies(() -> {
+            Map<PsiElement, List<DependenciesTree>> dependencies = new LinkedHashMap<>();
+            for (PsiElement element : PsiTreeUtil.findChildrenOfType(file, dependencyElementClass)) {
+                List<DependenciesTree> elementDependencies = getDependencies(element);
+                if (CollectionUtils.isNotEmpty(elementDependencies)) {
+                    dependencies.put(element, elementDependencies);
+                }
+            }
+            return dependencies;
+        });
     }
 
     /**
@@ -71,6 +106,16 @@ public abstract class AbstractInspection extends LocalInspectionTool implements
      */
     abstract PsiElement[] getTargetElements(PsiElement element);
 
+    /**
+     * Get the element declaring the dependency. Used to locate the declarations of dependencies in the package descriptors.
+     *
+     * @param element - The Psi element in the package descriptor
+     * @return the element declaring the dependency
+     */
+    PsiElement getDeclarationElement(PsiElement element) {
+        return element;
+    }
+
     /**
      * Get the relevant scan manager according to the project type and path.
      *
@@ -96,6 +141,18 @@ public abstract class AbstractInspection extends LocalInspectionTool implements
      */
     abstract GeneralInfo createGeneralInfo(PsiElement element);
 
+    /**
+     * Create the component ID of the dependency in the Psi element, as it appears in the dependencies tree.
+     * Used to prefetch the Xray results of dependencies before the project is imported.
+     * Only dependencies with an exact version have a component ID.
+     *
+     * @param element - The Psi element in the package descriptor
+     * @return the component ID or null if the element is not a dependency with an exact version
+     */
+    String createComponentId(PsiElement element) {
+        return null;
+    }
+
     /**
      * Get the submodules containing the dependency in the Psi element. The result depends on the root project structure:
      * In case of dependency selected:
@@ -109,6 +166,14 @@ public abstract class AbstractInspection extends LocalInspectionTool implements
      */
     abstract Set<DependenciesTree> getModules(PsiElement element, GeneralInfo generalInfo);
 
+    String getPackageDescriptorName() {
+        return packageDescriptorName;
+    }
+
+    Class<? extends PsiElement> getDependencyElementClass() {
+        return dependencyElementClass;
+    }
+
     /**
      * Determine whether to apply the inspection on the Psi element.
      *
@@ -116,23 +181,52 @@ public abstract class AbstractInspection extends LocalInspectionTool implements
      * @return true if and only if the element is a dependency and the plugin is ready to show inspection for it
      */
     boolean isShowInspection(PsiElement element) {
-        Project project = element.getProject();
+        return getInspectionContext(element).isApplicable() && isDependency(element);
+    }
+
+    /**
+     * Get the inspection context of the file containing the element. The context is computed once, and recomputed
+     * after the file or the scan results change.
+     *
+     * @param element - The Psi element in the package descriptor
+     * @return the inspection context of the package descriptor
+     */
+    InspectionContext getInspectionContext(PsiElement element) {
+        PsiFile file = element.getContainingFile();
+        IssuesTree issuesTree = IssuesTree.getInstance(file.getProject());
+        if (issuesTree == null) {
+            return InspectionContext.NOT_APPLICABLE;
+        }
+        return CachedValuesManager.getCachedValue(file, INSPECTION_CONTEXT, () ->
+                CachedValueProvider.Result.create(createInspectionContext(file, issuesTree), file, issuesTree.getScanTracker()));
+    }
+
+    /**
+     * Resolve the scan manager and the root of the dependencies tree of the package descriptor.
+     *
+     * @param file       - The package descriptor
+     * @param issuesTree - The issues tree
+     * @return the inspection context of the package descriptor
+     */
+    private InspectionContext createInspectionContext(PsiFile file, IssuesTree issuesTree) {
+        Project project = file.getProject();
 
         ToolWindow toolWindow = ToolWindowManager.getInstance(project).getToolWindow("JFrog");
         if (toolWindow == null) {
-            return false; // Tool window not yet activated
+            return InspectionContext.NOT_APPLICABLE; // Tool window not yet activated
         }
 
-        VirtualFile editorFile = element.getContainingFile().getVirtualFile();
+        VirtualFile editorFile = file.getVirtualFile();
         if (editorFile == null || editorFile.getParent() == null || !editorFile.getPath().endsWith(packageDescriptorName)) {
-            return false; // File is not a package descriptor file
+            return InspectionContext.NOT_APPLICABLE; // File is not a package descriptor file
         }
 
         ScanManager scanManager = getScanManager(project, editorFile.getParent().getPath());
         if (scanManager == null) {
-            return false; // Scan manager for this project not yet created
+            return InspectionContext.NOT_APPLICABLE; // Scan manager for this project not yet created
         }
-        return isDependency(element);
+        TreeModel model = issuesTree.getModel();
+        return new InspectionContext(scanManager, model == null ? null : (DependenciesTree) model.getRoot());
     }
 
     /**
@@ -149,12 +243,9 @@ public abstract class AbstractInspection extends LocalInspectionTool implements
         if (generalInfo == null) {
             return null; // Creating the general info failed
         }
-        Set<DependenciesTree> modules = getModules(element, generalInfo);
-        if (modules == null) {
-            return null; // No modules found for this element
-        }
+        Set<DependenciesTree> modules = getInspectionContext(element).getModules(generalInfo, () -> getModules(element, generalInfo));
         return modules.stream()
-                .map(module -> getModuleDependency(module, generalInfo))
+                .map(module -> getModuleDependency(element, module, generalInfo))
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
@@ -162,21 +253,26 @@ public abstract class AbstractInspection extends LocalInspectionTool implements
     /**
      * Get the module dependency that matches to the input general info.
      *
+     * @param element     - The Psi element in the package descriptor
      * @param module      - The dependencies tree module
      * @param generalInfo - The general info
      * @return module dependencies that match to the input general info
      */
-    private DependenciesTree getModuleDependency(DependenciesTree module, GeneralInfo generalInfo) {
-        for (DependenciesTree dependency : module.getChildren()) {
-            GeneralInfo childGeneralInfo = dependency.getGeneralInfo();
-            if (childGeneralInfo == null) {
-                childGeneralInfo = new GeneralInfo().componentId(dependency.getUserObject().toString());
-            }
-            if (compareGeneralInfos(generalInfo, childGeneralInfo)) {
-                return dependency;
-            }
-        }
-        return null;
+    private DependenciesTree getModuleDependency(PsiElement element, DependenciesTree module, GeneralInfo generalInfo) {
+        return getDependencyIndexes(element.getProject()).computeIfAbsent(module, DependencyIndex::new).get(generalInfo);
+    }
+
+    /**
+     * Get the dependency indexes of the modules in the dependencies tree. The indexes are built lazily, and dropped
+     * after the scan results change.
+     *
+     * @param project - The project
+     * @return map of module to the index of its dependencies
+     */
+    private Map<DependenciesTree, DependencyIndex> getDependencyIndexes(Project project) {
+        IssuesTree issuesTree = IssuesTree.getInstance(project);
+        return CachedValuesManager.getManager(project).getCachedValue(project, DEPENDENCY_INDEXES, () ->
+                CachedValueProvider.Result.create(Collections.synchronizedMap(new IdentityHashMap<>()), issuesTree.getScanTracker()), false);
     }
 
     /**
@@ -203,12 +299,7 @@ public abstract class AbstractInspection extends LocalInspectionTool implements
      * @return root of the dependencies tree of the input project
      */
     DependenciesTree getRootDependenciesTree(PsiElement element) {
-        Project project = element.getProject();
-        IssuesTree issuesTree = IssuesTree.getInstance(project);
-        if (issuesTree == null || issuesTree.getModel() == null) {
-            return null;
-        }
-        return (DependenciesTree) issuesTree.getModel().getRoot();
+        return getInspectionContext(element).getRoot();
     }
 
     /**
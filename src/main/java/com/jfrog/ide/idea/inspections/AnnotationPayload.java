@@ -0,0 +1,120 @@
+package com.jfrog.ide.idea.inspections;
+
+import com.intellij.lang.annotation.HighlightSeverity;
+import com.jfrog.ide.idea.ui.issues.DependencyPath;
+import org.jfrog.build.extractor.scan.DependenciesTree;
+import org.jfrog.build.extractor.scan.Issue;
+import org.jfrog.build.extractor.scan.License;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.jfrog.ide.idea.inspections.InspectionUtils.SHOW_IN_DEPENDENCIES_TREE;
+
+/**
+ * The annotations and the "Show in dependencies tree" quick fixes of a dependencies tree node.
+ * Computed once per node after the scan results are filtered, so highlighting only looks them up.
+ */
+public class AnnotationPayload {
+
+    private final static Issue NORMAL_SEVERITY_ISSUE = new Issue();
+    private final static String NOT_CACHED = "Unknown - Xray results of this component are not available offline";
+
+    private final HighlightSeverity highlightSeverity;
+    private final String topIssue;
+    private final String licenses;
+    private final ShowInDependenciesTree quickFix;
+    private final ShowInDependenciesTree moduleQuickFix;
+
+    private AnnotationPayload(DependenciesTree node, DependencyPath path, boolean notCached) {
+        highlightSeverity = getHighlightSeverity(node);
+        topIssue = notCached ? NOT_CACHED : getTopIssueString(node);
+        licenses = getLicensesString(node);
+        quickFix = new ShowInDependenciesTree(path, SHOW_IN_DEPENDENCIES_TREE);
+        DependenciesTree parent = (DependenciesTree) node.getParent();
+        moduleQuickFix = parent == null ? quickFix :
+                new ShowInDependenciesTree(path, SHOW_IN_DEPENDENCIES_TREE + " (" + parent.getUserObject() + ")");
+    }
+
+    /**
+     * @param node      - The dependencies tree node
+     * @param path      - The path to the node in the issues tree
+     * @param notCached - True if the Xray results of the node are unknown, since it is missing in the local cache
+     * @return the annotation payload of the node. The payload doesn't retain the node.
+     */
+    public static AnnotationPayload create(DependenciesTree node, DependencyPath path, boolean notCached) {
+        return new AnnotationPayload(node, path, notCached);
+    }
+
+    HighlightSeverity getHighlightSeverity() {
+        return highlightSeverity;
+    }
+
+    String getTopIssue() {
+        return topIssue;
+    }
+
+    String getLicenses() {
+        return licenses;
+    }
+
+    /**
+     * @param multipleModules - True if the dependency appears in more than one module of the package descriptor
+     * @return the "Show in dependencies tree" quick fix. If the dependency appears in more than one module, the quick fix
+     * description contains the module name.
+     */
+    ShowInDependenciesTree getQuickFix(boolean multipleModules) {
+        return multipleModules ? moduleQuickFix : quickFix;
+    }
+
+    /**
+     * Get the severity of the dependencies tree node.
+     *
+     * @param node - The dependencies tree node
+     * @return the severity of the dependencies tree node
+     */
+    private static HighlightSeverity getHighlightSeverity(DependenciesTree node) {
+        switch (node.getTopIssue().getSeverity()) {
+            case High:
+            case Critical:
+                return HighlightSeverity.ERROR; // Red underline
+            case Low:
+                //noinspection deprecation
+            case Minor:
+            case Medium:
+            case Major:
+                return HighlightSeverity.WEAK_WARNING; // White underline
+            default: // Normal, information, unknown and pending
+                return HighlightSeverity.INFORMATION; // No underline
+        }
+    }
+
+    /**
+     * Get the top issue string.
+     *
+     * @param node - The dependencies tree node
+     * @return the top issue string
+     */
+    private static String getTopIssueString(DependenciesTree node) {
+        Issue topIssue = node.getTopIssue();
+        if (topIssue.isHigherSeverityThan(NORMAL_SEVERITY_ISSUE)) {
+            return "Top issue severity: " + topIssue.getSeverity();
+        }
+        return "No issues found";
+    }
+
+    /**
+     * Get licenses string
+     *
+     * @param node - The dependencies tree node
+     * @return licenses string
+     */
+    private static String getLicensesString(DependenciesTree node) {
+        String results = "Licenses: ";
+        List<String> licensesStrings = node.getLicenses().stream().map(License::getName).collect(Collectors.toList());
+        if (licensesStrings.isEmpty()) {
+            return results + "Unknown";
+        }
+        return results + String.join(", ", licensesStrings);
+    }
+}
@@ -0,0 +1,65 @@
+package com.jfrog.ide.idea.inspections;
+
+import com.intellij.lang.annotation.AnnotationHolder;
+import com.intellij.lang.annotation.ExternalAnnotator;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.editor.Editor;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.jfrog.ide.idea.ui.issues.IssuesTree;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jfrog.build.extractor.scan.DependenciesTree;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parent class of all annotators. The annotations are the "Top issue" and "Licenses" labels.
+ * The dependencies of the package descriptor are resolved in the background in one pass, using the inspection of the
+ * package descriptor, and the result is shared with the inspection.
+ */
+public abstract class DependenciesAnnotator extends ExternalAnnotator<PsiFile, Map<PsiElement, List<DependenciesTree>>> {
+
+    private final AbstractInspection inspection;
+
+    DependenciesAnnotator(AbstractInspection inspection) {
+        this.inspection = inspection;
+    }
+
+    @Nullable
+    @Override
+    public PsiFile collectInformation(@NotNull PsiFile file, @NotNull Editor editor, boolean hasErrors) {
+        // Annotate also package descriptors with syntax errors
+        return collectInformation(file);
+    }
+
+    @Nullable
+    @Override
+    public PsiFile collectInformation(@NotNull PsiFile file) {
+        return inspection.getInspectionContext(file).isApplicable() ? file : null;
+    }
+
+    @Nullable
+    @Override
+    public Map<PsiElement, List<DependenciesTree>> doAnnotate(PsiFile file) {
+        return ReadAction.compute(() -> file.isValid() ? inspection.getFileDependencies(file) : null);
+    }
+
+    @Override
+    public void apply(@NotNull PsiFile file, Map<PsiElement, List<DependenciesTree>> dependencies, @NotNull AnnotationHolder holder) {
+        if (dependencies == null) {
+            return;
+        }
+        IssuesTree issuesTree = IssuesTree.getInstance(file.getProject());
+        dependencies.forEach((element, elementDependencies) -> {
+            if (element.isValid()) {
+                AnnotationPayload payload = issuesTree.getAnnotationPayload(elementDependencies.get(0));
+                // The node is not in the tree anymore
+                if (payload != null) {
+                    AnnotationUtils.registerAnnotation(holder, payload, inspection.getTargetElements(element));
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,182 @@
+package com.jfrog.ide.idea.inspections;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.intellij.openapi.fileEditor.OpenFileDescriptor;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import org.apache.commons.lang.StringUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jfrog.build.extractor.scan.DependenciesTree;
+import org.jfrog.build.extractor.scan.GeneralInfo;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Index of the dependencies declared in the package descriptors - pom.xml, build.gradle, package.json and go.mod.
+ * Maps the coordinates of each dependency to the offsets of its declarations in the descriptor. The index is kept up to
+ * date incrementally by the platform indexer, so the declarations of a component are found without parsing the
+ * descriptors of the project.
+ * The key is "groupId:artifactId" for Maven and Gradle dependencies, and the package name for npm and Go dependencies.
+ */
+public class DependencyDeclarationsIndex extends FileBasedIndexExtension<String, List<Integer>> {
+
+    public static final ID<String, List<Integer>> NAME = ID.create("JFrog.DependencyDeclarations");
+
+    private static final DataExternalizer<List<Integer>> OFFSETS_EXTERNALIZER = new DataExternalizer<List<Integer>>() {
+        @Override
+        public void save(@NotNull DataOutput out, List<Integer> offsets) throws IOException {
+            // The offsets are sorted, so only the deltas are written
+            DataInputOutputUtil.writeINT(out, offsets.size());
+            int previous = 0;
+            for (int offset : offsets) {
+                DataInputOutputUtil.writeINT(out, offset - previous);
+                previous = offset;
+            }
+        }
+
+        @Override
+        public List<Integer> read(@NotNull DataInput in) throws IOException {
+            int size = DataInputOutputUtil.readINT(in);
+            List<Integer> offsets = new ArrayList<>(size);
+            int previous = 0;
+            for (int i = 0; i < size; i++) {
+                previous += DataInputOutputUtil.readINT(in);
+                offsets.add(previous);
+            }
+            return offsets;
+        }
+    };
+
+    /**
+     * Find the declarations of a component in the package descriptors of the project.
+     * Must be called in a read action, when the project is not in dumb mode.
+     *
+     * @param project - The project
+     * @param node    - The component in the dependencies tree
+     * @return the declarations of the component
+     */
+    public static List<OpenFileDescriptor> findDeclarations(@NotNull Project project, @NotNull DependenciesTree node) {
+        List<OpenFileDescriptor> declarations = Lists.newArrayList();
+        GeneralInfo generalInfo = node.getGeneralInfo();
+        if (generalInfo == null || StringUtils.isBlank(generalInfo.getComponentId())) {
+            return declarations;
+        }
+        FileBasedIndex.getInstance().processValues(NAME, createNodeKey(generalInfo.getComponentId()), null, (file, offsets) -> {
+            offsets.forEach(offset -> declarations.add(new OpenFileDescriptor(project, file, offset)));
+            return true;
+        }, GlobalSearchScope.projectScope(project));
+        return declarations;
+    }
+
+    @NotNull
+    @Override
+    public ID<String, List<Integer>> getName() {
+        return NAME;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, List<Integer>, FileContent> getIndexer() {
+        return inputData -> {
+            PsiFile psiFile = inputData.getPsiFile();
+            AbstractInspection inspection = PackageDescriptors.createInspection(psiFile);
+            if (inspection == null) {
+                return Collections.emptyMap();
+            }
+            Map<String, SortedSet<Integer>> declarations = Maps.newHashMap();
+            for (PsiElement element : PsiTreeUtil.findChildrenOfType(psiFile, inspection.getDependencyElementClass())) {
+                if (!inspection.isDependency(element)) {
+                    continue;
+                }
+                String key = createDeclarationKey(inspection.createGeneralInfo(element));
+                if (StringUtils.isNotBlank(key)) {
+                    int offset = inspection.getDeclarationElement(element).getTextOffset();
+                    declarations.computeIfAbsent(key, ignored -> new TreeSet<>()).add(offset);
+                }
+            }
+            Map<String, List<Integer>> result = Maps.newHashMapWithExpectedSize(declarations.size());
+            declarations.forEach((key, offsets) -> result.put(key, new ArrayList<>(offsets)));
+            return result;
+        };
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return EnumeratorStringDescriptor.INSTANCE;
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<List<Integer>> getValueExternalizer() {
+        return OFFSETS_EXTERNALIZER;
+    }
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return file -> PackageDescriptors.isPackageDescriptor(file.getName());
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    /**
+     * Create the index key of a dependency declared in a package descriptor.
+     *
+     * @param generalInfo - The general info created by the inspection of the package descriptor
+     * @return the index key or null if the dependency has no coordinates
+     */
+    static String createDeclarationKey(GeneralInfo generalInfo) {
+        if (generalInfo == null) {
+            return null;
+        }
+        if (generalInfo.getComponentId() != null) { // Gradle 'a:b[:c]'
+            String[] parts = StringUtils.split(StringUtils.substringBefore(generalInfo.getComponentId(), "@"), ":");
+            return parts.length >= 2 ? createKey(parts[0], parts[1]) : null;
+        }
+        return createKey(generalInfo.getGroupId(), generalInfo.getArtifactId());
+    }
+
+    /**
+     * Create the index key of a component in the dependencies tree.
+     *
+     * @param componentId - The component ID - "groupId:artifactId:version" or "name:version"
+     * @return the index key
+     */
+    static String createNodeKey(String componentId) {
+        String[] parts = StringUtils.split(componentId, ":");
+        return parts.length >= 3 ? createKey(parts[0], parts[1]) : parts[0];
+    }
+
+    private static String createKey(String groupId, String artifactId) {
+        if (StringUtils.isBlank(artifactId)) {
+            return null;
+        }
+        // npm dependencies have no group ID, but their inspection sets it to the package name
+        return StringUtils.isBlank(groupId) || groupId.equals(artifactId) ? artifactId : groupId + ":" + artifactId;
+    }
+}
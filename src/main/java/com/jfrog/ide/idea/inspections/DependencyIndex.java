@@ -0,0 +1,48 @@
+package com.jfrog.ide.idea.inspections;
+
+import com.google.common.collect.Maps;
+import org.jfrog.build.extractor.scan.DependenciesTree;
+import org.jfrog.build.extractor.scan.GeneralInfo;
+
+import java.util.Map;
+
+/**
+ * Index of the direct dependencies of a module in the dependencies tree, by 'groupId:artifactId' and by artifactId.
+ * Matches dependencies the same way as {@link AbstractInspection#compareGeneralInfos(GeneralInfo, GeneralInfo)}:
+ * If the groupId of the searched dependency is empty, only the artifactId is compared.
+ * If several dependencies match, the first one is returned.
+ */
+class DependencyIndex {
+
+    private final Map<String, DependenciesTree> byComponent = Maps.newHashMap();
+    private final Map<String, DependenciesTree> byArtifact = Maps.newHashMap();
+
+    DependencyIndex(DependenciesTree module) {
+        for (DependenciesTree dependency : module.getChildren()) {
+            GeneralInfo generalInfo = dependency.getGeneralInfo();
+            if (generalInfo == null) {
+                if (dependency.getUserObject() == null) {
+                    continue;
+                }
+                generalInfo = new GeneralInfo().componentId(dependency.getUserObject().toString());
+            }
+            byComponent.putIfAbsent(createKey(generalInfo.getGroupId(), generalInfo.getArtifactId()), dependency);
+            byArtifact.putIfAbsent(generalInfo.getArtifactId(), dependency);
+        }
+    }
+
+    /**
+     * @param generalInfo - General info generated for the selected Psi element in the package descriptor
+     * @return the matching dependency or null if not found
+     */
+    DependenciesTree get(GeneralInfo generalInfo) {
+        if ("".equals(generalInfo.getGroupId())) {
+            return byArtifact.get(generalInfo.getArtifactId());
+        }
+        return byComponent.get(createKey(generalInfo.getGroupId(), generalInfo.getArtifactId()));
+    }
+
+    private static String createKey(String groupId, String artifactId) {
+        return groupId + ":" + artifactId;
+    }
+}
@@ -0,0 +1,235 @@
+package com.jfrog.ide.idea.inspections;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiTreeChangeAdapter;
+import com.intellij.psi.PsiTreeChangeEvent;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.Alarm;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.jfrog.ide.common.scan.ComponentPrefix;
+import com.jfrog.ide.idea.configuration.GlobalSettings;
+import com.jfrog.ide.idea.configuration.XrayServerConfigImpl;
+import com.jfrog.ide.idea.scan.RateLimiter;
+import com.jfrog.ide.idea.scan.RetryPolicy;
+import com.jfrog.ide.idea.scan.ScanUtils;
+import com.jfrog.ide.idea.scan.XrayClientService;
+import com.jfrog.ide.idea.scan.XrayRequestEngine;
+import com.jfrog.ide.idea.scan.cache.AsyncComponentsCache;
+import com.jfrog.ide.idea.scan.cache.ComponentsCacheService;
+import com.jfrog.xray.client.Xray;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Prefetch the Xray results of dependencies while the user edits the package descriptors.
+ * After the edits of a descriptor settle, the dependencies added since the last successful prefetch are extracted using
+ * the inspections, and the components missing in the components cache are fetched from Xray. By the time the project
+ * is imported and scanned, the results of the new dependencies are already cached.
+ * The prefetch is best effort - It is skipped in offline mode or while Xray is unavailable, and its requests wait in their
+ * own queue of the rate limiter, so they don't delay the scans.
+ */
+public class DescriptorPrefetcher implements Disposable {
+
+    private static final Logger LOG = Logger.getInstance(DescriptorPrefetcher.class);
+    private static final int DEBOUNCE_MILLIS = 2000;
+    // A dedicated key, so the prefetch queue can't be shared with a project of the same name
+    private static final Object PREFETCH_QUEUE = new Object();
+
+    private final Map<String, DescriptorType> descriptorTypes = Maps.newHashMap();
+    // Path of descriptor -> The component IDs in the descriptor on the last successful prefetch
+    private final Map<String, Set<String>> knownComponents = Maps.newConcurrentMap();
+    private final Set<PsiFile> changedFiles = Sets.newConcurrentHashSet();
+    private final Alarm alarm = new Alarm(Alarm.ThreadToUse.POOLED_THREAD, this);
+    private final Project project;
+    private boolean started;
+
+    private DescriptorPrefetcher(@NotNull Project project) {
+        this.project = project;
+        addDescriptorType(new MavenInspection(), ComponentPrefix.GAV);
+        addDescriptorType(new GradleInspection(), ComponentPrefix.GAV);
+        addDescriptorType(new NpmInspection(), ComponentPrefix.NPM);
+    }
+
+    public static DescriptorPrefetcher getInstance(@NotNull Project project) {
+        return ServiceManager.getService(project, DescriptorPrefetcher.class);
+    }
+
+    /**
+     * Start listening to changes in the package descriptors of the project.
+     */
+    public synchronized void start() {
+        if (started) {
+            return;
+        }
+        started = true;
+        PsiManager.getInstance(project).addPsiTreeChangeListener(new PsiTreeChangeAdapter() {
+            @Override
+            public void childAdded(@NotNull PsiTreeChangeEvent event) {
+                onChange(event);
+            }
+
+            @Override
+            public void childReplaced(@NotNull PsiTreeChangeEvent event) {
+                onChange(event);
+            }
+
+            @Override
+            public void childrenChanged(@NotNull PsiTreeChangeEvent event) {
+                onChange(event);
+            }
+        }, this);
+    }
+
+    private void addDescriptorType(AbstractInspection inspection, ComponentPrefix prefix) {
+        descriptorTypes.put(inspection.getPackageDescriptorName(), new DescriptorType(inspection, prefix.getPrefix()));
+    }
+
+    /**
+     * Called on the EDT on each change, so it only records the file and reschedules the prefetch.
+     */
+    private void onChange(PsiTreeChangeEvent event) {
+        PsiFile file = event.getFile();
+        if (file == null || !descriptorTypes.containsKey(file.getName())) {
+            return;
+        }
+        changedFiles.add(file);
+        alarm.cancelAllRequests();
+        alarm.addRequest(this::prefetch, DEBOUNCE_MILLIS);
+    }
+
+    private void prefetch() {
+        XrayServerConfigImpl xrayConfig = GlobalSettings.getInstance().getXrayConfig();
+        XrayClientService xrayClientService = XrayClientService.getInstance();
+        List<PsiFile> files = Lists.newArrayList(changedFiles);
+        changedFiles.removeAll(files);
+        if (project.isDisposed() || xrayConfig.isOfflineMode() || !GlobalSettings.getInstance().areCredentialsSet() ||
+                xrayClientService.getCircuitBreaker().isOpen()) {
+            return;
+        }
+        Predicate<String> internalComponents = ScanUtils.createComponentsMatcher(xrayConfig.getInternalComponents());
+        for (PsiFile file : files) {
+            VirtualFile virtualFile = file.getVirtualFile();
+            if (virtualFile == null) {
+                continue;
+            }
+            try {
+                DescriptorType descriptorType = descriptorTypes.get(file.getName());
+                Set<String> componentIds = ReadAction.compute(() -> collectComponents(file, descriptorType.inspection));
+                if (componentIds == null) {
+                    continue;
+                }
+                Set<String> previous = knownComponents.get(virtualFile.getPath());
+                List<String> newComponents = componentIds.stream()
+                        .filter(componentId -> previous == null || !previous.contains(componentId))
+                        .filter(internalComponents.negate())
+                        .collect(Collectors.toList());
+                prefetch(newComponents, descriptorType.prefix);
+                // Record the components only after they were fetched, so a failed prefetch is retried on the next change
+                knownComponents.put(virtualFile.getPath(), componentIds);
+            } catch (IOException e) {
+                // The components will be fetched by the next change or scan
+                LOG.debug("Failed to prefetch the components of " + file.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Extract the component IDs of the dependencies in the descriptor. Must be called in a read action.
+     *
+     * @param file       - The package descriptor
+     * @param inspection - The inspection of the package descriptor
+     * @return the component IDs or null if the file is not valid anymore
+     */
+    private static Set<String> collectComponents(PsiFile file, AbstractInspection inspection) {
+        if (!file.isValid()) {
+            return null;
+        }
+        Set<String> componentIds = Sets.newHashSet();
+        PsiTreeUtil.processElements(file, element -> {
+            String componentId = inspection.createComponentId(element);
+            if (componentId != null) {
+                componentIds.add(componentId);
+            }
+            return true;
+        });
+        return componentIds;
+    }
+
+    /**
+     * Fetch the components missing in the components cache or expired.
+     *
+     * @param componentIds - The components to prefetch
+     * @param prefix       - The component prefix, e.g. gav:// or npm://
+     * @throws IOException in case of an error response from Xray or an I/O error in the cache.
+     */
+    private void prefetch(List<String> componentIds, String prefix) throws IOException {
+        AsyncComponentsCache componentsCache = ComponentsCacheService.getInstance().getCache();
+        for (String componentId : Lists.newArrayList(componentIds)) {
+            if (componentsCache.isFresh(componentId)) {
+                componentIds.remove(componentId);
+            }
+        }
+        if (componentIds.isEmpty()) {
+            return;
+        }
+        XrayClientService xrayClientService = XrayClientService.getInstance();
+        RetryPolicy retryPolicy = new RetryPolicy(xrayClientService.getCircuitBreaker());
+        RateLimiter rateLimiter = xrayClientService.getRateLimiter();
+        try (XrayClientService.ClientReference clientReference = xrayClientService.acquireClient()) {
+            Xray xrayClient = clientReference.getClient();
+            XrayRequestEngine requestEngine = new XrayRequestEngine((componentsToFetch, timer) -> retryPolicy.execute(() -> {
+                acquire(rateLimiter, componentsToFetch.size());
+                return timer.time(() -> ScanUtils.fetchComponents(xrayClient, componentsToFetch, prefix));
+            }), AppExecutorUtil.getAppExecutorService(), 1);
+            requestEngine.run(componentIds, (requested, artifacts) -> {
+                componentsCache.putAll(artifacts);
+                componentsCache.putNotFound(requested.stream()
+                        .filter(componentId -> !artifacts.containsKey(componentId))
+                        .collect(Collectors.toList()));
+            }, fraction -> {});
+        }
+        LOG.debug("Prefetched " + componentIds.size() + " components of " + project.getName());
+    }
+
+    private void acquire(RateLimiter rateLimiter, int components) throws InterruptedIOException {
+        try {
+            rateLimiter.acquire(PREFETCH_QUEUE, components);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the Xray rate limiter");
+        }
+    }
+
+    @Override
+    public void dispose() {
+        changedFiles.clear();
+        knownComponents.clear();
+    }
+
+    private static class DescriptorType {
+        private final AbstractInspection inspection;
+        private final String prefix;
+
+        private DescriptorType(AbstractInspection inspection, String prefix) {
+            this.inspection = inspection;
+            this.prefix = prefix;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.jfrog.ide.idea.inspections;
+
+/**
+ * Annotate the dependencies in go.mod files with their "Top issue" and "Licenses" labels.
+ */
+public class GoAnnotator extends DependenciesAnnotator {
+
+    public GoAnnotator() {
+        super(new GoInspection());
+    }
+}
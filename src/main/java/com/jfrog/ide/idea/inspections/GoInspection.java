@@ -4,7 +4,6 @@ import com.goide.vgo.mod.psi.VgoModuleSpec;
 import com.goide.vgo.mod.psi.VgoRequireDirective;
 import com.goide.vgo.mod.psi.VgoVisitor;
 import com.intellij.codeInspection.ProblemsHolder;
-import com.intellij.lang.annotation.AnnotationHolder;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiElementVisitor;
@@ -25,7 +24,7 @@ import java.util.Set;
 public class GoInspection extends AbstractInspection {
 
     public GoInspection() {
-        super("go.mod");
+        super("go.mod", VgoModuleSpec.class);
     }
 
     @NotNull
@@ -40,13 +39,6 @@ public class GoInspection extends AbstractInspection {
         };
     }
 
-    @Override
-    public void annotate(@NotNull PsiElement element, @NotNull AnnotationHolder holder) {
-        if (element instanceof VgoModuleSpec) {
-            GoInspection.this.visitElement(holder, element);
-        }
-    }
-
     @Override
     PsiElement[] getTargetElements(PsiElement element) {
         return new PsiElement[]{element};
@@ -0,0 +1,11 @@
+package com.jfrog.ide.idea.inspections;
+
+/**
+ * Annotate the dependencies in build.gradle files with their "Top issue" and "Licenses" labels.
+ */
+public class GradleAnnotator extends DependenciesAnnotator {
+
+    public GradleAnnotator() {
+        super(new GradleInspection());
+    }
+}
@@ -1,11 +1,12 @@
 package com.jfrog.ide.idea.inspections;
 
 import com.intellij.codeInspection.ProblemsHolder;
-import com.intellij.lang.annotation.AnnotationHolder;
 import com.intellij.openapi.externalSystem.settings.ExternalProjectSettings;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiElementVisitor;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
 import com.jfrog.ide.idea.scan.GradleScanManager;
 import com.jfrog.ide.idea.scan.ScanManager;
 import com.jfrog.ide.idea.scan.ScanManagersFactory;
@@ -14,8 +15,12 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.plugins.gradle.settings.GradleSettings;
 import org.jetbrains.plugins.groovy.lang.psi.GroovyElementVisitor;
 import org.jetbrains.plugins.groovy.lang.psi.GroovyPsiElementVisitor;
+import org.jetbrains.plugins.groovy.lang.psi.api.statements.arguments.GrArgumentList;
 import org.jetbrains.plugins.groovy.lang.psi.api.statements.arguments.GrNamedArgument;
+import org.jetbrains.plugins.groovy.lang.psi.api.statements.blocks.GrClosableBlock;
 import org.jetbrains.plugins.groovy.lang.psi.api.statements.expressions.GrExpression;
+import org.jetbrains.plugins.groovy.lang.psi.api.statements.expressions.GrMethodCall;
+import org.jetbrains.plugins.groovy.lang.psi.api.statements.expressions.GrReferenceExpression;
 import org.jetbrains.plugins.groovy.lang.psi.api.statements.expressions.literals.GrLiteral;
 import org.jetbrains.plugins.groovy.lang.psi.api.util.GrNamedArgumentsOwner;
 import org.jfrog.build.extractor.scan.DependenciesTree;
@@ -35,9 +40,11 @@ public class GradleInspection extends AbstractInspection {
 
     public static final String GRADLE_GROUP_KEY = "group";
     public static final String GRADLE_NAME_KEY = "name";
+    public static final String GRADLE_VERSION_KEY = "version";
+    public static final String GRADLE_DEPENDENCIES = "dependencies";
 
     public GradleInspection() {
-        super("build.gradle");
+        super("build.gradle", GrLiteral.class);
     }
 
     @NotNull
@@ -52,13 +59,6 @@ public class GradleInspection extends AbstractInspection {
         });
     }
 
-    @Override
-    public void annotate(@NotNull PsiElement element, @NotNull AnnotationHolder holder) {
-        if (element instanceof GrLiteral) {
-            GradleInspection.this.visitElement(holder, element);
-        }
-    }
-
     @Override
     PsiElement[] getTargetElements(PsiElement element) {
         if (element.getParent() instanceof GrNamedArgument) {
@@ -67,6 +67,13 @@ public class GradleInspection extends AbstractInspection {
         return new PsiElement[]{element};
     }
 
+    @Override
+    PsiElement getDeclarationElement(PsiElement element) {
+        // All named arguments of a dependency share the same declaration
+        PsiElement parent = element.getParent();
+        return parent instanceof GrNamedArgument ? parent.getParent() : element;
+    }
+
     @Override
     ScanManager getScanManager(Project project, String path) {
         return ScanManagersFactory.getScanManagers(project).stream()
@@ -78,12 +85,55 @@ public class GradleInspection extends AbstractInspection {
     @Override
     boolean isDependency(PsiElement element) {
         PsiElement parent = element.getParent();
-        for (int i = 0; i < 6; i++, parent = parent.getParent()) {
-            if (StringUtils.startsWith(parent.getText(), "dependencies")) {
-                return true;
-            }
+        if (parent instanceof GrNamedArgument) { // compile group: 'a', name: 'b', version: 'c'
+            parent = parent.getParent();
+            return parent instanceof GrArgumentList && isConfigurationCall(parent.getParent());
         }
-        return false;
+        if (!(parent instanceof GrArgumentList)) {
+            return false;
+        }
+        PsiElement call = parent.getParent();
+        if (isConfigurationCall(call)) { // compile 'a:b:c'
+            return true;
+        }
+        // compile project(':xyz')
+        PsiElement callParent = call.getParent();
+        return call instanceof GrMethodCall && callParent instanceof GrArgumentList && isConfigurationCall(callParent.getParent());
+    }
+
+    /**
+     * Return true if the element is a method call in a 'dependencies' closure, such as "compile 'a:b:c'".
+     *
+     * @param element - The Psi element in the package descriptor
+     * @return true if the element is a configuration method call
+     */
+    private boolean isConfigurationCall(PsiElement element) {
+        if (!(element instanceof GrMethodCall)) {
+            return false;
+        }
+        PsiElement parent = element.getParent();
+        return parent instanceof GrClosableBlock && isDependenciesClosure((GrClosableBlock) parent);
+    }
+
+    /**
+     * Return true if the closure is the closure of 'dependencies', without materializing the text of the closure.
+     * The answer is cached per closure until the file changes.
+     *
+     * @param closure - The Groovy closure
+     * @return true if the closure is the closure of 'dependencies'
+     */
+    private boolean isDependenciesClosure(GrClosableBlock closure) {
+        return CachedValuesManager.getCachedValue(closure, () -> {
+            PsiElement parent = closure.getParent();
+            boolean result = false;
+            if (parent instanceof GrMethodCall) {
+                GrExpression invokedExpression = ((GrMethodCall) parent).getInvokedExpression();
+                result = invokedExpression instanceof GrReferenceExpression &&
+                        !((GrReferenceExpression) invokedExpression).isQualified() &&
+                        GRADLE_DEPENDENCIES.equals(((GrReferenceExpression) invokedExpression).getReferenceName());
+            }
+            return CachedValueProvider.Result.create(result, closure);
+        });
     }
 
     @Override
@@ -102,6 +152,35 @@ public class GradleInspection extends AbstractInspection {
         return new GeneralInfo().componentId(componentId);
     }
 
+    @Override
+    String createComponentId(PsiElement element) {
+        if (!(element instanceof GrLiteral) || !isDependency(element)) {
+            return null;
+        }
+        String groupId, artifactId, version;
+        PsiElement parent = element.getParent();
+        if (parent instanceof GrNamedArgument) { // compile group: 'a', name: 'b', version: 'c'
+            GeneralInfo generalInfo = createGeneralInfo(element);
+            groupId = generalInfo.getGroupId();
+            artifactId = generalInfo.getArtifactId();
+            version = extractExpresion((GrNamedArgumentsOwner) parent.getParent(), GRADLE_VERSION_KEY);
+        } else { // compile 'a:b:c[:classifier][@extension]'
+            String[] parts = StringUtils.split(StringUtils.substringBefore(createGeneralInfo(element).getComponentId(), "@"), ":");
+            if (parts.length < 3) {
+                return null;
+            }
+            groupId = parts[0];
+            artifactId = parts[1];
+            version = parts[2];
+        }
+        // Dynamic versions are resolved only on import
+        if (StringUtils.isBlank(groupId) || StringUtils.isBlank(artifactId) || StringUtils.isBlank(version) ||
+                StringUtils.containsAny(version, "+[]()$")) {
+            return null;
+        }
+        return String.join(":", groupId, artifactId, version);
+    }
+
     @Override
     Set<DependenciesTree> getModules(PsiElement element, GeneralInfo generalInfo) {
         Project project = element.getProject();
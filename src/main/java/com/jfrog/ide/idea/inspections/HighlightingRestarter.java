@@ -0,0 +1,55 @@
+package com.jfrog.ide.idea.inspections;
+
+import com.intellij.codeInsight.daemon.DaemonCodeAnalyzer;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.fileEditor.FileEditorManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.jfrog.ide.idea.events.DescriptorEvents;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+
+/**
+ * Restart the highlighting of the open package descriptors whose scan results changed, so their annotations are
+ * refreshed without re-highlighting the whole project.
+ */
+public class HighlightingRestarter implements DescriptorEvents {
+
+    private final Project project;
+
+    private HighlightingRestarter(@NotNull Project project) {
+        this.project = project;
+    }
+
+    /**
+     * Listen to scan results changes of the package descriptors of the project.
+     *
+     * @param project - The project
+     */
+    public static void register(@NotNull Project project) {
+        project.getMessageBus().connect(project).subscribe(DescriptorEvents.ON_SCAN_DESCRIPTORS_CHANGE, new HighlightingRestarter(project));
+    }
+
+    @Override
+    public void update(Set<Path> descriptors) {
+        // Run after the scan results are populated in the issues tree
+        ApplicationManager.getApplication().invokeLater(() -> {
+            PsiManager psiManager = PsiManager.getInstance(project);
+            DaemonCodeAnalyzer daemonCodeAnalyzer = DaemonCodeAnalyzer.getInstance(project);
+            for (VirtualFile file : FileEditorManager.getInstance(project).getOpenFiles()) {
+                if (!file.isValid() || !descriptors.contains(Paths.get(file.getPath()))) {
+                    continue;
+                }
+                PsiFile psiFile = psiManager.findFile(file);
+                if (psiFile != null) {
+                    daemonCodeAnalyzer.restart(psiFile);
+                }
+            }
+        }, project.getDisposed());
+    }
+}
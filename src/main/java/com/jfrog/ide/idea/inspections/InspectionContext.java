@@ -0,0 +1,81 @@
+package com.jfrog.ide.idea.inspections;
+
+import com.google.common.collect.Maps;
+import com.intellij.psi.PsiElement;
+import com.jfrog.ide.idea.scan.ScanManager;
+import org.jfrog.build.extractor.scan.DependenciesTree;
+import org.jfrog.build.extractor.scan.GeneralInfo;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * The state needed to inspect the dependencies of a package descriptor file.
+ * Created once per modification of the file and of the scan results, and shared by all elements in the file.
+ */
+class InspectionContext {
+
+    static final InspectionContext NOT_APPLICABLE = new InspectionContext(null, null);
+
+    private final Map<String, Set<DependenciesTree>> modules = Maps.newConcurrentMap();
+    private final ScanManager scanManager;
+    private final DependenciesTree root;
+    private volatile Map<PsiElement, List<DependenciesTree>> dependencies;
+
+    /**
+     * @param scanManager - The scan manager of the package descriptor or null if not yet created
+     * @param root        - The root of the dependencies tree or null if not yet scanned
+     */
+    InspectionContext(ScanManager scanManager, DependenciesTree root) {
+        this.scanManager = scanManager;
+        this.root = root;
+    }
+
+    /**
+     * @return true if the tool window is activated and the package descriptor has a scan manager
+     */
+    boolean isApplicable() {
+        return scanManager != null;
+    }
+
+    DependenciesTree getRoot() {
+        return root;
+    }
+
+    /**
+     * Get the modules containing the dependency. The modules are computed once per dependency.
+     *
+     * @param generalInfo - The general info of the dependency
+     * @param supplier    - Computes the modules, may return null if no modules found
+     * @return the modules containing the dependency, or an empty set if not found
+     */
+    Set<DependenciesTree> getModules(GeneralInfo generalInfo, Supplier<Set<DependenciesTree>> supplier) {
+        String key = generalInfo.getGroupId() + ":" + generalInfo.getArtifactId();
+        return modules.computeIfAbsent(key, ignored -> {
+            Set<DependenciesTree> result = supplier.get();
+            return result != null ? result : Collections.emptySet();
+        });
+    }
+
+    /**
+     * Get the dependencies tree nodes of all dependencies in the package descriptor. Resolved once per context.
+     *
+     * @param supplier - Resolves the dependencies of the package descriptor
+     * @return map of dependency element to its dependencies tree nodes
+     */
+    Map<PsiElement, List<DependenciesTree>> getDependencies(Supplier<Map<PsiElement, List<DependenciesTree>>> supplier) {
+        Map<PsiElement, List<DependenciesTree>> result = dependencies;
+        if (result == null) {
+            synchronized (this) {
+                if (dependencies == null) {
+                    dependencies = Collections.unmodifiableMap(supplier.get());
+                }
+                result = dependencies;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,11 @@
+package com.jfrog.ide.idea.inspections;
+
+/**
+ * Annotate the dependencies in pom.xml files with their "Top issue" and "Licenses" labels.
+ */
+public class MavenAnnotator extends DependenciesAnnotator {
+
+    public MavenAnnotator() {
+        super(new MavenInspection());
+    }
+}
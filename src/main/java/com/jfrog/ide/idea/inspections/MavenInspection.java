@@ -1,7 +1,6 @@
 package com.jfrog.ide.idea.inspections;
 
 import com.intellij.codeInspection.ProblemsHolder;
-import com.intellij.lang.annotation.AnnotationHolder;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiElementVisitor;
@@ -32,7 +31,7 @@ public class MavenInspection extends AbstractInspection {
     public static final String MAVEN_VERSION_TAG = "version";
 
     public MavenInspection() {
-        super("pom.xml");
+        super("pom.xml", XmlTag.class);
     }
 
     @NotNull
@@ -47,13 +46,6 @@ public class MavenInspection extends AbstractInspection {
         };
     }
 
-    @Override
-    public void annotate(@NotNull PsiElement element, @NotNull AnnotationHolder holder) {
-        if (element instanceof XmlTag) {
-            MavenInspection.this.visitElement(holder, element);
-        }
-    }
-
     @Override
     PsiElement[] getTargetElements(PsiElement element) {
         XmlTag xmlTag = (XmlTag) element;
@@ -93,6 +85,24 @@ public class MavenInspection extends AbstractInspection {
         return new GeneralInfo().groupId(groupId.getValue().getText()).artifactId(artifactId.getValue().getText());
     }
 
+    @Override
+    String createComponentId(PsiElement element) {
+        if (!(element instanceof XmlTag) || !isDependency(element)) {
+            return null;
+        }
+        GeneralInfo generalInfo = createGeneralInfo(element);
+        XmlTag version = ((XmlTag) element).findFirstSubTag(MAVEN_VERSION_TAG);
+        if (generalInfo == null || version == null) {
+            return null;
+        }
+        String versionText = version.getValue().getTrimmedText();
+        // Versions from properties are resolved only on import
+        if (StringUtils.isBlank(versionText) || versionText.contains("${")) {
+            return null;
+        }
+        return String.join(":", generalInfo.getGroupId(), generalInfo.getArtifactId(), versionText);
+    }
+
     @Override
     Set<DependenciesTree> getModules(PsiElement element, GeneralInfo generalInfo) {
         Project project = element.getProject();
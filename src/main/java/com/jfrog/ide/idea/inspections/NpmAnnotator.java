@@ -0,0 +1,11 @@
+package com.jfrog.ide.idea.inspections;
+
+/**
+ * Annotate the dependencies in package.json files with their "Top issue" and "Licenses" labels.
+ */
+public class NpmAnnotator extends DependenciesAnnotator {
+
+    public NpmAnnotator() {
+        super(new NpmInspection());
+    }
+}
@@ -4,7 +4,8 @@ import com.google.common.collect.Sets;
 import com.intellij.codeInspection.ProblemsHolder;
 import com.intellij.json.psi.JsonElementVisitor;
 import com.intellij.json.psi.JsonProperty;
-import com.intellij.lang.annotation.AnnotationHolder;
+import com.intellij.json.psi.JsonStringLiteral;
+import com.intellij.json.psi.JsonValue;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiElementVisitor;
@@ -16,6 +17,7 @@ import org.jfrog.build.extractor.scan.DependenciesTree;
 import org.jfrog.build.extractor.scan.GeneralInfo;
 
 import java.util.Set;
+import java.util.regex.Pattern;
 
 /**
  * @author yahavi
@@ -23,8 +25,10 @@ import java.util.Set;
 @SuppressWarnings("InspectionDescriptionNotFoundInspection")
 public class NpmInspection extends AbstractInspection {
 
+    private static final Pattern EXACT_VERSION = Pattern.compile("\\d+\\.\\d+\\.\\d+([-+][0-9A-Za-z.-]+)?");
+
     public NpmInspection() {
-        super("package.json");
+        super("package.json", JsonProperty.class);
     }
 
     @NotNull
@@ -39,13 +43,6 @@ public class NpmInspection extends AbstractInspection {
         };
     }
 
-    @Override
-    public void annotate(@NotNull PsiElement element, @NotNull AnnotationHolder holder) {
-        if (element instanceof JsonProperty) {
-            NpmInspection.this.visitElement(holder, element);
-        }
-    }
-
     @Override
     PsiElement[] getTargetElements(PsiElement element) {
         return new PsiElement[]{element};
@@ -79,4 +76,21 @@ public class NpmInspection extends AbstractInspection {
         String artifactId = StringUtils.unwrap(element.getFirstChild().getText(), "\"");
         return new GeneralInfo().artifactId(artifactId).groupId(artifactId);
     }
+
+    @Override
+    String createComponentId(PsiElement element) {
+        if (!(element instanceof JsonProperty) || !isDependency(element)) {
+            return null;
+        }
+        JsonValue value = ((JsonProperty) element).getValue();
+        if (!(value instanceof JsonStringLiteral)) {
+            return null;
+        }
+        // Version ranges are resolved only on install
+        String version = ((JsonStringLiteral) value).getValue();
+        if (!EXACT_VERSION.matcher(version).matches()) {
+            return null;
+        }
+        return createGeneralInfo(element).getArtifactId() + ":" + version;
+    }
 }
@@ -0,0 +1,49 @@
+package com.jfrog.ide.idea.inspections;
+
+import com.google.common.collect.ImmutableMap;
+import com.intellij.psi.PsiFile;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * The package descriptors supported by the inspections, and their inspections.
+ */
+class PackageDescriptors {
+
+    private static final String GO_LANGUAGE_ID = "vgo";
+    private static final String GO_MOD = "go.mod";
+
+    // Package descriptor name -> Its inspection. The Go inspection is created only if the Go plugin is installed.
+    private static final Map<String, Supplier<AbstractInspection>> INSPECTIONS = ImmutableMap.of(
+            "pom.xml", MavenInspection::new,
+            "build.gradle", GradleInspection::new,
+            "package.json", NpmInspection::new,
+            GO_MOD, () -> new GoInspection());
+
+    static Set<String> getNames() {
+        return INSPECTIONS.keySet();
+    }
+
+    static boolean isPackageDescriptor(String fileName) {
+        return INSPECTIONS.containsKey(fileName);
+    }
+
+    /**
+     * Create the inspection of a package descriptor.
+     *
+     * @param file - The package descriptor
+     * @return the inspection of the package descriptor or null if the file is not a supported package descriptor
+     */
+    static AbstractInspection createInspection(PsiFile file) {
+        Supplier<AbstractInspection> inspectionSupplier = INSPECTIONS.get(file.getName());
+        if (inspectionSupplier == null) {
+            return null;
+        }
+        if (GO_MOD.equals(file.getName()) && !GO_LANGUAGE_ID.equals(file.getLanguage().getID())) {
+            return null; // The Go plugin is not installed
+        }
+        return inspectionSupplier.get();
+    }
+}
@@ -6,6 +6,7 @@ import com.intellij.codeInspection.ProblemDescriptor;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.Iconable;
 import com.intellij.util.ui.tree.TreeUtil;
+import com.jfrog.ide.idea.ui.issues.DependencyPath;
 import com.jfrog.ide.idea.ui.issues.IssuesTree;
 import com.jfrog.ide.idea.ui.utils.IconUtils;
 import com.jfrog.ide.idea.utils.Utils;
@@ -14,6 +15,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jfrog.build.extractor.scan.DependenciesTree;
 
 import javax.swing.*;
+import javax.swing.tree.TreePath;
 
 /**
  * Adds the yellow bulb action - "Show in dependencies tree".
@@ -22,11 +24,15 @@ import javax.swing.*;
  */
 public class ShowInDependenciesTree implements LocalQuickFix, Iconable, HighPriorityAction {
 
-    private DependenciesTree node;
+    private DependencyPath path;
     private String description;
 
-    public ShowInDependenciesTree(DependenciesTree node, String description) {
-        this.node = node;
+    /**
+     * @param path        - The path to the node in the issues tree or null if the node is not in the tree
+     * @param description - The quick fix description
+     */
+    public ShowInDependenciesTree(DependencyPath path, String description) {
+        this.path = path;
         this.description = description;
     }
 
@@ -45,6 +51,14 @@ public class ShowInDependenciesTree implements LocalQuickFix, Iconable, HighPrio
     @Override
     public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
         Utils.focusJFrogToolWindow(project);
-        TreeUtil.selectInTree(project, node, true, IssuesTree.getInstance(project), true);
+        if (path == null) {
+            return;
+        }
+        IssuesTree issuesTree = IssuesTree.getInstance(project);
+        DependenciesTree node = issuesTree.findNode(path);
+        if (node != null) {
+            TreeUtil.selectPath(issuesTree, new TreePath(node.getPath()));
+            issuesTree.requestFocusInWindow();
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,209 @@
+package com.jfrog.ide.idea.inspections;
+
+import com.intellij.analysis.AnalysisScope;
+import com.intellij.codeInspection.GlobalInspectionContext;
+import com.intellij.codeInspection.GlobalInspectionTool;
+import com.intellij.codeInspection.InspectionManager;
+import com.intellij.codeInspection.LocalQuickFix;
+import com.intellij.codeInspection.ProblemDescriptionsProcessor;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.codeInspection.ProblemHighlightType;
+import com.intellij.codeInspection.reference.RefEntity;
+import com.intellij.concurrency.JobLauncher;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.search.FilenameIndex;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.jfrog.ide.idea.scan.cache.AsyncComponentsCache;
+import com.jfrog.ide.idea.scan.cache.ComponentsCacheService;
+import com.jfrog.ide.idea.ui.issues.IssuesTree;
+import org.jetbrains.annotations.NotNull;
+import org.jfrog.build.extractor.scan.Artifact;
+import org.jfrog.build.extractor.scan.DependenciesTree;
+import org.jfrog.build.extractor.scan.Issue;
+import org.jfrog.build.extractor.scan.Severity;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+/**
+ * Report the declarations of dependencies with High or Critical issues in all package descriptors of the analysis scope.
+ * Unlike the local inspections, which run only on the open files, this inspection runs from "Inspect Code" and produces
+ * one report of the entire project. The descriptors are inspected in parallel read actions, using the matching logic of
+ * the local inspections and the results of the last scan.
+ * Without scan results, e.g. before the first scan or in headless runs where the tool window and the scan managers are
+ * not created, the exact versions declared in the descriptors are looked up in the components cache instead.
+ */
+public class VulnerableDependenciesInspection extends GlobalInspectionTool {
+
+    private static final Logger LOG = Logger.getInstance(VulnerableDependenciesInspection.class);
+
+    @Override
+    public void runInspection(@NotNull AnalysisScope scope, @NotNull InspectionManager manager,
+                              @NotNull GlobalInspectionContext globalContext, @NotNull ProblemDescriptionsProcessor problemDescriptionsProcessor) {
+        Project project = globalContext.getProject();
+        List<VirtualFile> descriptors = ReadAction.compute(() -> findPackageDescriptors(project, scope));
+        Queue<FileProblems> results = new ConcurrentLinkedQueue<>();
+        JobLauncher.getInstance().invokeConcurrentlyUnderProgress(descriptors, ProgressManager.getInstance().getProgressIndicator(), descriptor -> {
+            FileProblems fileProblems = ReadAction.compute(() -> inspect(project, manager, descriptor));
+            if (fileProblems != null) {
+                results.add(fileProblems);
+            }
+            return true;
+        });
+        // Report on the calling thread, after all descriptors are inspected
+        ReadAction.run(() -> {
+            for (FileProblems fileProblems : results) {
+                RefEntity reference = globalContext.getRefManager().getReference(fileProblems.file);
+                if (reference != null) {
+                    problemDescriptionsProcessor.addProblemElement(reference, fileProblems.problems.toArray(new ProblemDescriptor[0]));
+                }
+            }
+        });
+    }
+
+    /**
+     * Inspections run in parallel read actions, so the tool must not hold a read action for the whole run.
+     */
+    @Override
+    public boolean isReadActionNeeded() {
+        return false;
+    }
+
+    @Override
+    public boolean isGraphNeeded() {
+        return false;
+    }
+
+    private static List<VirtualFile> findPackageDescriptors(Project project, AnalysisScope scope) {
+        GlobalSearchScope projectScope = GlobalSearchScope.projectScope(project);
+        return PackageDescriptors.getNames().stream()
+                .map(name -> FilenameIndex.getVirtualFilesByName(project, name, projectScope))
+                .flatMap(Collection::stream)
+                .filter(scope::contains)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Inspect a package descriptor. Must be called in a read action.
+     *
+     * @param project    - The project
+     * @param manager    - The inspection manager
+     * @param descriptor - The package descriptor
+     * @return the problems in the package descriptor or null if no problems found
+     */
+    private static FileProblems inspect(Project project, InspectionManager manager, VirtualFile descriptor) {
+        PsiFile file = descriptor.isValid() ? PsiManager.getInstance(project).findFile(descriptor) : null;
+        AbstractInspection inspection = file == null ? null : PackageDescriptors.createInspection(file);
+        if (inspection == null) {
+            return null;
+        }
+        InspectionContext context = inspection.getInspectionContext(file);
+        List<ProblemDescriptor> problems = context.isApplicable() && context.getRoot() != null ?
+                inspectScanResults(manager, file, inspection) : inspectCachedComponents(manager, file, inspection);
+        return problems.isEmpty() ? null : new FileProblems(file, problems);
+    }
+
+    /**
+     * Report the dependencies with High or Critical issues in the results of the last scan.
+     *
+     * @param manager    - The inspection manager
+     * @param file       - The package descriptor
+     * @param inspection - The inspection of the package descriptor
+     * @return the problems in the package descriptor
+     */
+    private static List<ProblemDescriptor> inspectScanResults(InspectionManager manager, PsiFile file, AbstractInspection inspection) {
+        IssuesTree issuesTree = IssuesTree.getInstance(file.getProject());
+        List<ProblemDescriptor> problems = new ArrayList<>();
+        for (Map.Entry<PsiElement, List<DependenciesTree>> entry : inspection.getFileDependencies(file).entrySet()) {
+            List<DependenciesTree> dependencies = entry.getValue();
+            for (DependenciesTree dependency : dependencies) {
+                AnnotationPayload payload = issuesTree.getAnnotationPayload(dependency);
+                if (payload == null || !isReported(dependency.getTopIssue())) {
+                    continue;
+                }
+                String description = dependency + " - " + payload.getTopIssue();
+                problems.add(manager.createProblemDescriptor(entry.getKey(), description, false,
+                        new ShowInDependenciesTree[]{payload.getQuickFix(dependencies.size() > 1)}, ProblemHighlightType.GENERIC_ERROR_OR_WARNING));
+            }
+        }
+        return problems;
+    }
+
+    /**
+     * Report the dependencies with High or Critical issues in the components cache. Only dependencies with an exact
+     * version have a component ID, and there is no dependencies tree to show them in.
+     *
+     * @param manager    - The inspection manager
+     * @param file       - The package descriptor
+     * @param inspection - The inspection of the package descriptor
+     * @return the problems in the package descriptor
+     */
+    private static List<ProblemDescriptor> inspectCachedComponents(InspectionManager manager, PsiFile file, AbstractInspection inspection) {
+        List<ProblemDescriptor> problems = new ArrayList<>();
+        try {
+            AsyncComponentsCache componentsCache = ComponentsCacheService.getInstance().getCache();
+            for (PsiElement element : PsiTreeUtil.findChildrenOfType(file, inspection.getDependencyElementClass())) {
+                String componentId = inspection.createComponentId(element);
+                Artifact artifact = componentId == null ? null : componentsCache.get(componentId);
+                if (artifact == null) {
+                    continue;
+                }
+                Issue topIssue = getTopIssue(artifact.getIssues());
+                if (isReported(topIssue)) {
+                    String description = componentId + " - Top issue severity: " + topIssue.getSeverity();
+                    problems.add(manager.createProblemDescriptor(element, description, false,
+                            LocalQuickFix.EMPTY_ARRAY, ProblemHighlightType.GENERIC_ERROR_OR_WARNING));
+                }
+            }
+        } catch (IOException e) {
+            LOG.warn("Failed to read the components cache", e);
+        }
+        return problems;
+    }
+
+    /**
+     * @param issues - The issues of a component
+     * @return the issue with the highest severity or a normal severity issue if there are no issues
+     */
+    static Issue getTopIssue(Collection<Issue> issues) {
+        Issue topIssue = new Issue();
+        for (Issue issue : issues) {
+            if (issue.isHigherSeverityThan(topIssue)) {
+                topIssue = issue;
+            }
+        }
+        return topIssue;
+    }
+
+    /**
+     * @param topIssue - The top issue of a component
+     * @return true if the component should be reported - Only High and Critical issues are reported
+     */
+    static boolean isReported(Issue topIssue) {
+        return topIssue.getSeverity() == Severity.High || topIssue.getSeverity() == Severity.Critical;
+    }
+
+    private static class FileProblems {
+        private final PsiFile file;
+        private final List<ProblemDescriptor> problems;
+
+        private FileProblems(PsiFile file, List<ProblemDescriptor> problems) {
+            this.file = file;
+            this.problems = problems;
+        }
+    }
+}
@@ -18,4 +18,8 @@ public class ProgressIndicatorImpl implements com.jfrog.ide.common.log.ProgressI
     public void setFraction(double fraction) {
         indicator.setFraction(fraction);
     }
+
+    public void setText2(String text) {
+        indicator.setText2(text);
+    }
 }
@@ -0,0 +1,80 @@
+package com.jfrog.ide.idea.scan;
+
+import java.io.IOException;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker shared by all requests to Xray.
+ * The circuit opens after consecutive transient failures. While it is open no requests are sent, and a health probe is
+ * sent at most once per probe interval. The circuit closes when a probe or a request succeeds.
+ */
+public class CircuitBreaker {
+
+    /**
+     * Lightweight request used to check if Xray recovered.
+     */
+    public interface HealthProbe {
+        void probe() throws IOException;
+    }
+
+    private final int failureThreshold;
+    private final long probeIntervalMillis;
+    private final LongSupplier clock;
+    private int failures;
+    private boolean open;
+    private long lastProbe;
+
+    /**
+     * @param failureThreshold    - Number of consecutive failures which opens the circuit
+     * @param probeIntervalMillis - Minimal time between health probes while the circuit is open
+     * @param clock               - Current time in milliseconds
+     */
+    public CircuitBreaker(int failureThreshold, long probeIntervalMillis, LongSupplier clock) {
+        this.failureThreshold = failureThreshold;
+        this.probeIntervalMillis = probeIntervalMillis;
+        this.clock = clock;
+    }
+
+    public synchronized boolean isOpen() {
+        return open;
+    }
+
+    public synchronized void onSuccess() {
+        failures = 0;
+        open = false;
+    }
+
+    public synchronized void onFailure() {
+        if (++failures >= failureThreshold && !open) {
+            open = true;
+            lastProbe = clock.getAsLong();
+        }
+    }
+
+    /**
+     * Return true if requests may be sent. If the circuit is open and the probe interval passed, probe Xray first.
+     * Only one caller probes at a time - Concurrent callers get false until the probe succeeds.
+     *
+     * @param probe - The health probe
+     * @return true if the circuit is closed or the probe succeeded
+     */
+    public boolean allowRequests(HealthProbe probe) {
+        synchronized (this) {
+            if (!open) {
+                return true;
+            }
+            long now = clock.getAsLong();
+            if (now - lastProbe < probeIntervalMillis) {
+                return false;
+            }
+            lastProbe = now;
+        }
+        try {
+            probe.probe();
+        } catch (IOException e) {
+            return false;
+        }
+        onSuccess();
+        return true;
+    }
+}
@@ -23,6 +23,7 @@ import java.util.Collection;
  */
 public class GoScanManager extends ScanManager {
 
+    private GoVendorTreeBuilder goVendorTreeBuilder;
     private GoTreeBuilder goTreeBuilder;
 
     /**
@@ -33,8 +34,15 @@ public class GoScanManager extends ScanManager {
     GoScanManager(Project mainProject, Project project) throws IOException {
         super(mainProject, project, ComponentPrefix.GO);
         getLog().info("Found go project: " + getProjectName());
+        goVendorTreeBuilder = new GoVendorTreeBuilder(Utils.getProjectBasePath(project));
         goTreeBuilder = new GoTreeBuilder(Utils.getProjectBasePath(project), EnvironmentUtil.getEnvironmentMap(), getLog());
         subscribeLaunchDependencyScanOnFileChangedEvents("go.sum");
+        subscribeLaunchDependencyScanOnFileChangedEvents(GoVendorTreeBuilder.MODULES_TXT);
+    }
+
+    @Override
+    protected String getPackageDescriptorName() {
+        return "go.mod";
     }
 
     @Override
@@ -44,6 +52,11 @@ public class GoScanManager extends ScanManager {
 
     @Override
     protected void buildTree(@Nullable DataNode<ProjectData> externalProject) throws IOException {
+        // Vendored modules are listed in vendor/modules.txt - No need to run the go toolchain
+        if (goVendorTreeBuilder.isApplicable()) {
+            setScanResults(goVendorTreeBuilder.buildTree());
+            return;
+        }
         setScanResults(goTreeBuilder.buildTree());
     }
 }
@@ -0,0 +1,101 @@
+package com.jfrog.ide.idea.scan;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.jfrog.build.extractor.scan.DependenciesTree;
+import org.jfrog.build.extractor.scan.GeneralInfo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Build the dependencies tree of a Go project that vendors its dependencies.
+ * The vendor/modules.txt file already lists every module and version, so there is no need to run the go toolchain.
+ * Since modules.txt contains no dependency graph, all modules are added as direct children of the root node.
+ */
+class GoVendorTreeBuilder {
+
+    static final String MODULES_TXT = "vendor/modules.txt";
+    private static final String MODULE_LINE_PREFIX = "# ";
+    private static final String REPLACEMENT_SEPARATOR = "=>";
+
+    private Path projectDir;
+
+    GoVendorTreeBuilder(Path projectDir) {
+        this.projectDir = projectDir;
+    }
+
+    /**
+     * @return true if the project vendors its dependencies.
+     */
+    boolean isApplicable() {
+        return Files.isRegularFile(projectDir.resolve(MODULES_TXT)) && Files.isRegularFile(projectDir.resolve("go.mod"));
+    }
+
+    /**
+     * Build the dependencies tree in a single streaming pass over vendor/modules.txt.
+     *
+     * @return the dependencies tree
+     * @throws IOException in case of an I/O error while reading go.mod or vendor/modules.txt.
+     */
+    DependenciesTree buildTree() throws IOException {
+        String moduleName = readModuleName();
+        DependenciesTree rootNode = new DependenciesTree(moduleName);
+        try (BufferedReader reader = Files.newBufferedReader(projectDir.resolve(MODULES_TXT), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String componentId = parseModuleLine(line);
+                if (componentId != null) {
+                    rootNode.add(new DependenciesTree(componentId));
+                }
+            }
+        }
+        rootNode.setGeneralInfo(new GeneralInfo().componentId(moduleName).name(moduleName).path(projectDir.toString()).pkgType("go"));
+        return rootNode;
+    }
+
+    /**
+     * Parse a single line of modules.txt. Module lines are in one of the following formats:
+     * # path version
+     * # path version => replacement-path replacement-version
+     * # path [version] => local-path
+     * Package lines and '## explicit' lines are ignored.
+     *
+     * @param line - A line from modules.txt
+     * @return the component ID in the form of 'path:version' or null if the line doesn't represent a scannable module.
+     */
+    static String parseModuleLine(String line) {
+        if (!StringUtils.startsWith(line, MODULE_LINE_PREFIX)) {
+            return null;
+        }
+        String[] module = StringUtils.split(line.substring(MODULE_LINE_PREFIX.length()));
+        int replacementIndex = ArrayUtils.indexOf(module, REPLACEMENT_SEPARATOR);
+        if (replacementIndex >= 0) {
+            // A replacement without version is a local directory, which is unknown to Xray
+            return module.length == replacementIndex + 3 ? module[replacementIndex + 1] + ":" + module[replacementIndex + 2] : null;
+        }
+        return module.length == 2 ? module[0] + ":" + module[1] : null;
+    }
+
+    /**
+     * Read the module name from the 'module' directive in go.mod.
+     *
+     * @return the module name
+     * @throws IOException in case of an I/O error while reading go.mod.
+     */
+    private String readModuleName() throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(projectDir.resolve("go.mod"), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.startsWith("module ")) {
+                    return StringUtils.unwrap(line.substring("module ".length()).trim(), "\"");
+                }
+            }
+        }
+        return projectDir.getFileName().toString();
+    }
+}
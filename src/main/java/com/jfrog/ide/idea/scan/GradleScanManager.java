@@ -81,6 +81,11 @@ public class GradleScanManager extends ScanManager {
         return paths;
     }
 
+    @Override
+    protected String getPackageDescriptorName() {
+        return "build.gradle";
+    }
+
     @Override
     protected void refreshDependencies(ExternalProjectRefreshCallback cbk, @Nullable Collection<DataNode<LibraryDependencyData>> libraryDependencies) {
         if (libraryDependencies != null) {
@@ -143,7 +148,8 @@ public class GradleScanManager extends ScanManager {
             String artifactId = StringUtils.removeStart(module.getData().getId(), ":");
             String version = Objects.toString(module.getData().getVersion(), "");
             DependenciesTree scanTreeNode = new DependenciesTree(artifactId);
-            scanTreeNode.setGeneralInfo(new GeneralInfo().pkgType("gradle").groupId(groupId).artifactId(artifactId).version(version));
+            scanTreeNode.setGeneralInfo(new GeneralInfo().pkgType("gradle").groupId(groupId).artifactId(artifactId).version(version)
+                    .path(module.getData().getLinkedExternalProjectPath()));
             modules.put(StringUtils.removeStart(module.getData().getId(), ":"), scanTreeNode);
         });
     }
@@ -53,6 +53,11 @@ public class MavenScanManager extends ScanManager {
                 .collect(Collectors.toSet());
     }
 
+    @Override
+    protected String getPackageDescriptorName() {
+        return "pom.xml";
+    }
+
     @Override
     protected void refreshDependencies(ExternalProjectRefreshCallback cbk, @Nullable Collection<DataNode<LibraryDependencyData>> libraryDependencies) {
         cbk.onSuccess(null);
@@ -123,6 +128,7 @@ public class MavenScanManager extends ScanManager {
                 .groupId(mavenId.getGroupId())
                 .artifactId(mavenId.getArtifactId())
                 .version(mavenId.getVersion())
+                .path(mavenProject.getDirectory())
                 .pkgType("maven"));
         return node;
     }
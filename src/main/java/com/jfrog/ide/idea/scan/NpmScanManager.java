@@ -37,6 +37,11 @@ public class NpmScanManager extends ScanManager {
         subscribeLaunchDependencyScanOnFileChangedEvents("package-lock.json");
     }
 
+    @Override
+    protected String getPackageDescriptorName() {
+        return "package.json";
+    }
+
     @Override
     protected void refreshDependencies(ExternalProjectRefreshCallback cbk, @Nullable Collection<DataNode<LibraryDependencyData>> libraryDependencies) {
         cbk.onSuccess(null);
@@ -0,0 +1,163 @@
+package com.jfrog.ide.idea.scan;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Application wide rate limiter of Xray requests, with two token buckets - Requests per second and components per second.
+ * Each bucket holds up to one second of tokens. A request larger than the components bucket is sent once the bucket is
+ * full, and the bucket goes into debt, so the average rate is kept.
+ * <p>
+ * Fair queuing - Each queue (usually a project) has its own FIFO of waiting requests, and the queues take turns in a
+ * round-robin order. A project with many pending requests can't starve the other projects.
+ */
+public class RateLimiter {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Map<Object, Deque<Object>> queues = new ConcurrentHashMap<>();
+    private final Deque<Object> turns = new ArrayDeque<>();
+    private double requestsPerSecond;
+    private double componentsPerSecond;
+    private double requestTokens;
+    private double componentTokens;
+    private long lastRefill = System.nanoTime();
+    private volatile int queueDepth;
+
+    /**
+     * @param requestsPerSecond   - Maximal average number of requests per second
+     * @param componentsPerSecond - Maximal average number of components per second
+     */
+    public RateLimiter(double requestsPerSecond, double componentsPerSecond) {
+        setRates(requestsPerSecond, componentsPerSecond);
+        requestTokens = this.requestsPerSecond;
+        componentTokens = this.componentsPerSecond;
+    }
+
+    /**
+     * Change the rates. Waiting requests are rescheduled according to the new rates.
+     *
+     * @param requestsPerSecond   - Maximal average number of requests per second
+     * @param componentsPerSecond - Maximal average number of components per second
+     */
+    public void setRates(double requestsPerSecond, double componentsPerSecond) {
+        lock.lock();
+        try {
+            refill();
+            this.requestsPerSecond = Math.max(requestsPerSecond, 1);
+            this.componentsPerSecond = Math.max(componentsPerSecond, 1);
+            requestTokens = Math.min(requestTokens, this.requestsPerSecond);
+            componentTokens = Math.min(componentTokens, this.componentsPerSecond);
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wait for the turn of the queue and for enough tokens, and then take the tokens of a request.
+     *
+     * @param queue      - The key of the queue of the request, usually the project name. Keys are compared by equals.
+     * @param components - Number of components in the request
+     * @return the waiting time in nanoseconds
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public long acquire(Object queue, int components) throws InterruptedException {
+        long start = System.nanoTime();
+        Object waiter = new Object();
+        lock.lock();
+        try {
+            Deque<Object> waiters = queues.computeIfAbsent(queue, key -> new ArrayDeque<>());
+            if (waiters.isEmpty()) {
+                turns.addLast(queue);
+            }
+            waiters.addLast(waiter);
+            queueDepth++;
+            try {
+                while (true) {
+                    if (!isTurn(queue, waiters, waiter)) {
+                        changed.await();
+                        continue;
+                    }
+                    refill();
+                    long waitNanos = nanosUntilAvailable(components);
+                    if (waitNanos <= 0) {
+                        requestTokens -= 1;
+                        componentTokens -= components;
+                        return System.nanoTime() - start;
+                    }
+                    changed.awaitNanos(waitNanos);
+                }
+            } finally {
+                leave(queue, waiters, waiter);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of requests waiting for the rate limiter
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * @param queue - The queue, usually the project name
+     * @return the number of requests of the queue waiting for the rate limiter
+     */
+    public int getQueueDepth(Object queue) {
+        Deque<Object> waiters = queues.get(queue);
+        if (waiters == null) {
+            return 0;
+        }
+        lock.lock();
+        try {
+            return waiters.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isTurn(Object queue, Deque<Object> waiters, Object waiter) {
+        return queue.equals(turns.peekFirst()) && waiters.peekFirst() == waiter;
+    }
+
+    /**
+     * Remove the waiter and pass the turn to the next queue. Must be called while holding the lock.
+     */
+    private void leave(Object queue, Deque<Object> waiters, Object waiter) {
+        boolean turn = isTurn(queue, waiters, waiter);
+        waiters.remove(waiter);
+        queueDepth--;
+        if (waiters.isEmpty()) {
+            turns.remove(queue);
+            queues.remove(queue);
+        } else if (turn) {
+            turns.removeFirst();
+            turns.addLast(queue);
+        }
+        changed.signalAll();
+    }
+
+    private long nanosUntilAvailable(int components) {
+        double missingRequests = 1 - requestTokens;
+        double missingComponents = Math.min(components, componentsPerSecond) - componentTokens;
+        double seconds = Math.max(missingRequests / requestsPerSecond, missingComponents / componentsPerSecond);
+        return seconds <= 0 ? 0 : Math.max((long) (seconds * TimeUnit.SECONDS.toNanos(1)), 1);
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        double seconds = (double) (now - lastRefill) / TimeUnit.SECONDS.toNanos(1);
+        lastRefill = now;
+        requestTokens = Math.min(requestTokens + seconds * requestsPerSecond, requestsPerSecond);
+        componentTokens = Math.min(componentTokens + seconds * componentsPerSecond, componentsPerSecond);
+    }
+}
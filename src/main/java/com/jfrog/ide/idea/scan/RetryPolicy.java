@@ -0,0 +1,107 @@
+package com.jfrog.ide.idea.scan;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.http.client.HttpResponseException;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retry requests to Xray on transient errors, with exponential backoff and full jitter.
+ * Transient errors are reported to the circuit breaker, and requests are not retried once the circuit is open.
+ */
+public class RetryPolicy {
+
+    static final int DEFAULT_MAX_ATTEMPTS = 3;
+    static final long DEFAULT_BASE_DELAY_MILLIS = 500;
+    static final long DEFAULT_MAX_DELAY_MILLIS = 8000;
+
+    /**
+     * A request to Xray.
+     *
+     * @param <T> the response type
+     */
+    public interface Request<T> {
+        T execute() throws IOException;
+    }
+
+    private final CircuitBreaker circuitBreaker;
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    public RetryPolicy(CircuitBreaker circuitBreaker) {
+        this(circuitBreaker, DEFAULT_MAX_ATTEMPTS, DEFAULT_BASE_DELAY_MILLIS, DEFAULT_MAX_DELAY_MILLIS);
+    }
+
+    /**
+     * @param circuitBreaker  - The shared circuit breaker
+     * @param maxAttempts     - Maximal number of attempts of each request
+     * @param baseDelayMillis - The maximal delay before the first retry. Doubled on each retry.
+     * @param maxDelayMillis  - Upper bound of the delay between attempts
+     */
+    RetryPolicy(CircuitBreaker circuitBreaker, int maxAttempts, long baseDelayMillis, long maxDelayMillis) {
+        this.circuitBreaker = circuitBreaker;
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    /**
+     * Execute the request and retry it on transient errors.
+     *
+     * @param request - The request
+     * @param <T>     - The response type
+     * @return the response
+     * @throws IOException the last error, if all attempts failed or if the error is not transient.
+     */
+    public <T> T execute(Request<T> request) throws IOException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                T response = request.execute();
+                circuitBreaker.onSuccess();
+                return response;
+            } catch (IOException e) {
+                if (!isTransient(e)) {
+                    throw e;
+                }
+                circuitBreaker.onFailure();
+                if (attempt >= maxAttempts || circuitBreaker.isOpen()) {
+                    throw e;
+                }
+                sleep(attempt);
+            }
+        }
+    }
+
+    /**
+     * @param throwable - The error
+     * @return true if the error is a connection error, a timeout, or a 'too many requests' or server error response.
+     */
+    public static boolean isTransient(Throwable throwable) {
+        return ExceptionUtils.getThrowableList(throwable).stream().anyMatch(cause -> {
+            if (cause instanceof SocketException || cause instanceof SocketTimeoutException || cause instanceof UnknownHostException) {
+                return true;
+            }
+            if (cause instanceof HttpResponseException) {
+                int statusCode = ((HttpResponseException) cause).getStatusCode();
+                return statusCode == 429 || statusCode >= 500;
+            }
+            return false;
+        });
+    }
+
+    private void sleep(int attempt) throws InterruptedIOException {
+        long delay = Math.min(baseDelayMillis << (attempt - 1), maxDelayMillis);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(delay + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry a request to Xray");
+        }
+    }
+}
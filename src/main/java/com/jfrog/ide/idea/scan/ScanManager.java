@@ -1,6 +1,11 @@
 package com.jfrog.ide.idea.scan;
 
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.externalSystem.model.DataNode;
 import com.intellij.openapi.externalSystem.model.project.LibraryDependencyData;
@@ -11,9 +16,11 @@ import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.progress.Task;
 import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.io.FileUtil;
 import com.intellij.openapi.vfs.VirtualFileManager;
 import com.intellij.openapi.vfs.newvfs.BulkFileListener;
 import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import com.intellij.util.messages.MessageBus;
 import com.intellij.util.messages.MessageBusConnection;
 import com.jfrog.ide.common.log.ProgressIndicator;
@@ -22,29 +29,44 @@ import com.jfrog.ide.common.scan.ScanManagerBase;
 import com.jfrog.ide.common.utils.ProjectsMap;
 import com.jfrog.ide.idea.configuration.GlobalSettings;
 import com.jfrog.ide.idea.events.ApplicationEvents;
+import com.jfrog.ide.idea.events.DescriptorEvents;
 import com.jfrog.ide.idea.events.ProjectEvents;
 import com.jfrog.ide.idea.log.Logger;
 import com.jfrog.ide.idea.log.ProgressIndicatorImpl;
+import com.jfrog.ide.idea.scan.cache.AsyncComponentsCache;
+import com.jfrog.ide.idea.scan.cache.ComponentsCacheService;
 import com.jfrog.ide.idea.ui.filters.FilterManagerService;
 import com.jfrog.ide.idea.ui.issues.IssuesTree;
 import com.jfrog.ide.idea.ui.licenses.LicensesTree;
 import com.jfrog.ide.idea.utils.Utils;
+import com.jfrog.xray.client.Xray;
 import com.jfrog.xray.client.services.summary.Components;
 import org.apache.commons.lang.StringUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jfrog.build.extractor.scan.Artifact;
 import org.jfrog.build.extractor.scan.DependenciesTree;
+import org.jfrog.build.extractor.scan.GeneralInfo;
 import org.jfrog.build.extractor.scan.License;
 
 import javax.swing.*;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * Created by romang on 4/26/17.
@@ -52,11 +74,19 @@ import java.util.concurrent.atomic.AtomicBoolean;
 public abstract class ScanManager extends ScanManagerBase {
 
     private static final Path HOME_PATH = Paths.get(System.getProperty("user.home"), ".jfrog-idea-plugin");
+    // ScanManagerBase requires a directory for its per-project cache, and loads the cache of the project from it on
+    // creation. This plugin never calls the ScanManagerBase methods which fill that cache - The scan results are fetched
+    // in scanAndCacheComponents and cached in ComponentsCacheService. So ScanManagerBase gets a directory of its own,
+    // which stays empty. The per-project caches of older versions are deleted by ComponentsCacheService.
+    private static final Path BASE_CACHE_PATH = HOME_PATH.resolve("cache").resolve("unused");
+    private ComponentPrefix prefix;
     private Project mainProject;
     Project project;
 
     // Lock to prevent multiple simultaneous scans
     private AtomicBoolean scanInProgress = new AtomicBoolean(false);
+    // Package descriptor -> Fingerprint of the last published scan results of its module
+    private Map<Path, HashCode> descriptorFingerprints = Maps.newHashMap();
 
     /**
      * @param mainProject - Currently opened IntelliJ project. We'll use this project to retrieve project based services
@@ -65,9 +95,10 @@ public abstract class ScanManager extends ScanManagerBase {
      * @param prefix      - Components prefix for xray scan, e.g. gav:// or npm://.
      */
     ScanManager(@NotNull Project mainProject, @NotNull Project project, ComponentPrefix prefix) throws IOException {
-        super(HOME_PATH.resolve("cache"), project.getName(), Logger.getInstance(mainProject), GlobalSettings.getInstance().getXrayConfig(), prefix);
+        super(BASE_CACHE_PATH, project.getName(), Logger.getInstance(mainProject), GlobalSettings.getInstance().getXrayConfig(), prefix);
         this.mainProject = mainProject;
         this.project = project;
+        this.prefix = prefix;
         Files.createDirectories(HOME_PATH);
         registerOnChangeHandlers();
     }
@@ -83,12 +114,17 @@ public abstract class ScanManager extends ScanManagerBase {
      */
     protected abstract void buildTree(@Nullable DataNode<ProjectData> externalProject) throws IOException;
 
+    /**
+     * @return the name of the package descriptor file in each of the project paths, e.g. pom.xml
+     */
+    protected abstract String getPackageDescriptorName();
+
     /**
      * Scan and update dependency components.
      */
     private void scanAndUpdate(boolean quickScan, ProgressIndicator indicator, @Nullable Collection<DataNode<LibraryDependencyData>> libraryDependencies) {
         // Don't scan if Xray is not configured
-        if (!GlobalSettings.getInstance().areCredentialsSet()) {
+        if (!GlobalSettings.getInstance().isScanEnabled()) {
             getLog().error("Xray server is not configured.");
             return;
         }
@@ -156,9 +192,19 @@ public abstract class ScanManager extends ScanManagerBase {
             public void onSuccess(@Nullable DataNode<ProjectData> externalProject) {
                 try {
                     buildTree(externalProject);
-                    scanAndCacheArtifacts(indicator, quickScan);
-                    addXrayInfoToTree(getScanResults());
-                    setScanResults();
+                    Predicate<String> internalComponents = ScanUtils.createComponentsMatcher(
+                            GlobalSettings.getInstance().getXrayConfig().getInternalComponents());
+                    boolean offline = isOffline();
+                    if (!offline) {
+                        offline = !scanAndCacheComponents(indicator, quickScan, internalComponents);
+                    }
+                    if (offline) {
+                        getLog().info("Xray is offline. Showing results of " + getProjectName() + " from the local cache.");
+                    }
+                    Set<String> notCachedComponents = Sets.newHashSet();
+                    addXrayInfoFromCache(ComponentsCacheService.getInstance().getCache(), getScanResults(), Maps.newHashMap(),
+                            offline ? notCachedComponents : null, internalComponents);
+                    setScanResults(notCachedComponents);
                 } catch (ProcessCanceledException e) {
                     getLog().info("Xray scan was canceled");
                 } catch (Exception e) {
@@ -173,6 +219,158 @@ public abstract class ScanManager extends ScanManagerBase {
         };
     }
 
+    /**
+     * Return true if scans should use only the local cache. That is if the user enabled the offline mode, or if the
+     * circuit breaker of Xray requests is open.
+     *
+     * @return true if Xray should not be queried
+     */
+    private static boolean isOffline() {
+        return GlobalSettings.getInstance().getXrayConfig().isOfflineMode() || !XrayClientService.getInstance().isAvailable();
+    }
+
+    /**
+     * Scan the components of the dependencies tree and store the results in the components cache.
+     * Components missing in the Xray response are cached as unknown to Xray, and internal components are never sent.
+     *
+     * @param indicator          - The progress indicator
+     * @param quickScan          - True to scan only components missing in the cache or expired
+     * @param internalComponents - Matcher of internal components
+     * @return false if Xray is unavailable
+     * @throws IOException in case of an error response from Xray or an I/O error in the cache.
+     */
+    private boolean scanAndCacheComponents(ProgressIndicator indicator, boolean quickScan, Predicate<String> internalComponents) throws IOException {
+        AsyncComponentsCache componentsCache = ComponentsCacheService.getInstance().getCache();
+        Set<String> componentIds = getComponentIds();
+        componentIds.removeIf(internalComponents);
+        if (quickScan) {
+            for (String componentId : Lists.newArrayList(componentIds)) {
+                if (componentsCache.isFresh(componentId)) {
+                    componentIds.remove(componentId);
+                }
+            }
+        }
+        if (componentIds.isEmpty()) {
+            return true;
+        }
+        XrayClientService xrayClientService = XrayClientService.getInstance();
+        RetryPolicy retryPolicy = new RetryPolicy(xrayClientService.getCircuitBreaker());
+        RateLimiter rateLimiter = xrayClientService.getRateLimiter();
+        AtomicLong throttledNanos = new AtomicLong();
+        // Hold the client until all requests are done, even if the configuration changes in the meantime
+        try (XrayClientService.ClientReference clientReference = xrayClientService.acquireClient()) {
+            Xray xrayClient = clientReference.getClient();
+            XrayRequestEngine requestEngine = new XrayRequestEngine((componentsToFetch, timer) -> retryPolicy.execute(() -> {
+                // Each attempt goes through the rate limiter, including retries. Only the request itself is timed.
+                throttledNanos.addAndGet(acquire(rateLimiter, componentsToFetch.size()));
+                return timer.time(() -> ScanUtils.fetchComponents(xrayClient, componentsToFetch, prefix.getPrefix()));
+            }), AppExecutorUtil.getAppExecutorService(), GlobalSettings.getInstance().getXrayConfig().getMaxConcurrentRequests());
+            // Merge the results of each batch into the cache as soon as it arrives
+            requestEngine.run(Lists.newArrayList(componentIds), (requested, artifacts) -> {
+                componentsCache.putAll(artifacts);
+                componentsCache.putNotFound(requested.stream()
+                        .filter(componentId -> !artifacts.containsKey(componentId))
+                        .collect(Collectors.toList()));
+            }, fraction -> {
+                checkCanceled();
+                indicator.setFraction(fraction);
+                if (indicator instanceof ProgressIndicatorImpl) {
+                    int queueDepth = rateLimiter.getQueueDepth();
+                    ((ProgressIndicatorImpl) indicator).setText2(queueDepth > 0 ? queueDepth + " Xray requests are waiting for the rate limiter" : "");
+                }
+            });
+            long throttledSeconds = TimeUnit.NANOSECONDS.toSeconds(throttledNanos.get());
+            if (throttledSeconds > 0) {
+                getLog().info("Xray requests of " + getProjectName() + " were delayed by the rate limiter for " + throttledSeconds +
+                        " seconds in total. Current queue depth: " + rateLimiter.getQueueDepth() + ".");
+            }
+        } catch (IOException e) {
+            if (!RetryPolicy.isTransient(e)) {
+                throw e;
+            }
+            getLog().warn("Xray is unavailable: " + e.getMessage() + ". Showing cached results until Xray recovers.");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Wait for the rate limiter. Requests of this project are queued separately from the requests of other projects.
+     *
+     * @param rateLimiter - The shared rate limiter
+     * @param components  - Number of components in the request
+     * @return the waiting time in nanoseconds
+     * @throws InterruptedIOException if interrupted while waiting.
+     */
+    private long acquire(RateLimiter rateLimiter, int components) throws InterruptedIOException {
+        try {
+            return rateLimiter.acquire(getProjectName(), components);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the Xray rate limiter");
+        }
+    }
+
+    /**
+     * @return the IDs of the components in the current dependencies tree.
+     */
+    public Set<String> getComponentIds() {
+        Set<String> componentIds = Sets.newHashSet();
+        collectComponentIds(getScanResults(), componentIds);
+        return componentIds;
+    }
+
+    private void collectComponentIds(DependenciesTree node, Set<String> componentIds) {
+        if (node == null) {
+            return;
+        }
+        for (DependenciesTree child : node.getChildren()) {
+            Object userObject = child.getUserObject();
+            if (userObject != null && userObject.toString().contains(":")) {
+                componentIds.add(userObject.toString());
+            }
+            collectComponentIds(child, componentIds);
+        }
+    }
+
+    /**
+     * Populate the dependencies tree with the issues and licenses from the components cache.
+     *
+     * @param componentsCache     - The components cache
+     * @param node                - The dependencies tree node
+     * @param artifacts           - Artifacts already read from the cache during this scan
+     * @param notCachedComponents - Collects the components missing in the cache, or null if Xray is online
+     * @param internalComponents  - Matcher of internal components, which are never collected as missing
+     * @throws IOException in case of an I/O error in the cache.
+     */
+    private void addXrayInfoFromCache(AsyncComponentsCache componentsCache, DependenciesTree node, Map<String, Artifact> artifacts,
+                                      @Nullable Set<String> notCachedComponents, Predicate<String> internalComponents) throws IOException {
+        if (node == null) {
+            return;
+        }
+        for (DependenciesTree child : node.getChildren()) {
+            Object userObject = child.getUserObject();
+            if (userObject != null) {
+                String componentId = userObject.toString();
+                Artifact artifact = artifacts.get(componentId);
+                if (artifact == null && !artifacts.containsKey(componentId)) {
+                    artifact = componentsCache.get(componentId);
+                    artifacts.put(componentId, artifact);
+                }
+                if (artifact != null) {
+                    child.setIssues(artifact.getIssues());
+                    child.setLicenses(artifact.getLicenses());
+                    if (child.getGeneralInfo() == null) {
+                        child.setGeneralInfo(artifact.getGeneralInfo());
+                    }
+                } else if (notCachedComponents != null && componentId.contains(":") && !internalComponents.test(componentId)) {
+                    notCachedComponents.add(componentId);
+                }
+            }
+            addXrayInfoFromCache(componentsCache, child, artifacts, notCachedComponents, internalComponents);
+        }
+    }
+
     private void registerOnChangeHandlers() {
         MessageBusConnection busConnection = ApplicationManager.getApplication().getMessageBus().connect();
         busConnection.subscribe(ApplicationEvents.ON_CONFIGURATION_DETAILS_CHANGE, this::asyncScanAndUpdateResults);
@@ -198,8 +396,10 @@ public abstract class ScanManager extends ScanManagerBase {
 
     /**
      * filter scan components tree model according to the user filters and sort the issues tree.
+     *
+     * @param notCachedComponents - The components without Xray results, since they are missing in the cache offline
      */
-    private void setScanResults() {
+    private void setScanResults(Set<String> notCachedComponents) {
         DependenciesTree scanResults = getScanResults();
         if (scanResults == null) {
             return;
@@ -213,11 +413,111 @@ public abstract class ScanManager extends ScanManagerBase {
 
         IssuesTree issuesTree = IssuesTree.getInstance(mainProject);
         issuesTree.addScanResults(getProjectName(), scanResults);
+        issuesTree.setNotCachedComponents(projectKey, notCachedComponents);
         projectMessageBus.syncPublisher(ProjectEvents.ON_SCAN_PROJECT_ISSUES_CHANGE).update(projectKey);
 
         LicensesTree licensesTree = LicensesTree.getInstance(mainProject);
         licensesTree.addScanResults(getProjectName(), scanResults);
         projectMessageBus.syncPublisher(ProjectEvents.ON_SCAN_PROJECT_LICENSES_CHANGE).update(projectKey);
+
+        // Refresh the annotations of the package descriptors only if the results of their modules changed
+        Map<Path, HashCode> fingerprints = computeDescriptorFingerprints(scanResults, notCachedComponents);
+        Set<Path> changedDescriptors = Sets.newHashSet(Sets.symmetricDifference(fingerprints.keySet(), descriptorFingerprints.keySet()));
+        fingerprints.forEach((descriptor, fingerprint) -> {
+            if (!fingerprint.equals(descriptorFingerprints.getOrDefault(descriptor, fingerprint))) {
+                changedDescriptors.add(descriptor);
+            }
+        });
+        descriptorFingerprints = fingerprints;
+        if (!changedDescriptors.isEmpty()) {
+            projectMessageBus.syncPublisher(DescriptorEvents.ON_SCAN_DESCRIPTORS_CHANGE).update(changedDescriptors);
+        }
+    }
+
+    /**
+     * Compute a fingerprint of the components, issues and licenses of each package descriptor in the scan results.
+     * A node is a module with a package descriptor of its own if its path is inside the project paths. The dependencies of
+     * a module are part of the fingerprint of its descriptor, and the nodes above the modules are part of the fingerprint
+     * of the project descriptor.
+     *
+     * @param scanResults         - The scan results
+     * @param notCachedComponents - The components without Xray results, since they are missing in the cache offline
+     * @return package descriptor to the fingerprint of its scan results
+     */
+    private Map<Path, HashCode> computeDescriptorFingerprints(DependenciesTree scanResults, Set<String> notCachedComponents) {
+        Set<Path> projectPaths = getProjectPaths();
+        Path descriptor = getModuleDescriptor(scanResults, projectPaths);
+        if (descriptor == null) {
+            descriptor = Utils.getProjectBasePath(project).resolve(getPackageDescriptorName());
+        }
+        Map<Path, Hasher> hashers = Maps.newHashMap();
+        addModuleFingerprint(scanResults, descriptor, projectPaths, notCachedComponents, hashers);
+        Map<Path, HashCode> fingerprints = Maps.newHashMapWithExpectedSize(hashers.size());
+        hashers.forEach((modulePath, hasher) -> fingerprints.put(modulePath, hasher.hash()));
+        return fingerprints;
+    }
+
+    private void addModuleFingerprint(DependenciesTree module, Path descriptor, Set<Path> projectPaths,
+                                      Set<String> notCachedComponents, Map<Path, Hasher> hashers) {
+        Hasher hasher = hashers.computeIfAbsent(descriptor, key -> Hashing.murmur3_128().newHasher());
+        addNodeFingerprint(hasher, module, notCachedComponents);
+        for (DependenciesTree child : module.getChildren()) {
+            Path childDescriptor = getModuleDescriptor(child, projectPaths);
+            if (childDescriptor != null) {
+                addModuleFingerprint(child, childDescriptor, projectPaths, notCachedComponents, hashers);
+            } else {
+                addTreeFingerprint(hasher, child, notCachedComponents);
+            }
+        }
+    }
+
+    private static void addTreeFingerprint(Hasher hasher, DependenciesTree node, Set<String> notCachedComponents) {
+        addNodeFingerprint(hasher, node, notCachedComponents);
+        hasher.putInt(node.getChildCount());
+        for (DependenciesTree child : node.getChildren()) {
+            addTreeFingerprint(hasher, child, notCachedComponents);
+        }
+    }
+
+    /**
+     * Add the component, issues and licenses of a node to the fingerprint. Issues and licenses are unordered, so they are
+     * sorted first.
+     */
+    private static void addNodeFingerprint(Hasher hasher, DependenciesTree node, Set<String> notCachedComponents) {
+        String componentId = Objects.toString(node.getUserObject(), "");
+        hasher.putString(componentId, StandardCharsets.UTF_8).putBoolean(notCachedComponents.contains(componentId));
+        node.getIssues().stream()
+                .map(issue -> issue.getSeverity() + ":" + issue.getSummary())
+                .sorted()
+                .forEach(issue -> hasher.putString(issue, StandardCharsets.UTF_8).putByte((byte) 0));
+        hasher.putInt(node.getIssues().size());
+        node.getLicenses().stream()
+                .map(License::getName)
+                .map(String::valueOf)
+                .sorted()
+                .forEach(license -> hasher.putString(license, StandardCharsets.UTF_8).putByte((byte) 0));
+        hasher.putInt(node.getLicenses().size());
+    }
+
+    /**
+     * @param node         - A node in the scan results
+     * @param projectPaths - The paths of the project
+     * @return the package descriptor of the node if it is a module inside the project paths, or null otherwise.
+     */
+    private Path getModuleDescriptor(DependenciesTree node, Set<Path> projectPaths) {
+        GeneralInfo generalInfo = node.getGeneralInfo();
+        if (generalInfo == null || StringUtils.isBlank(generalInfo.getPath())) {
+            return null;
+        }
+        try {
+            Path path = Paths.get(generalInfo.getPath());
+            if (!path.isAbsolute() || projectPaths.stream().noneMatch(path::startsWith)) {
+                return null;
+            }
+            return path.resolve(getPackageDescriptorName());
+        } catch (InvalidPathException e) {
+            return null;
+        }
     }
 
     @Override
@@ -243,7 +543,8 @@ public abstract class ScanManager extends ScanManagerBase {
      * @param fileName - file to track for changes.
      */
     protected void subscribeLaunchDependencyScanOnFileChangedEvents(String fileName) {
-        String fileToSubscribe = Paths.get(Utils.getProjectBasePath(project).toString(), fileName).toString();
+        // The paths of VFS events are system independent, e.g. 'C:/project/vendor/modules.txt' on Windows
+        String fileToSubscribe = FileUtil.toSystemIndependentName(Paths.get(Utils.getProjectBasePath(project).toString(), fileName).toString());
 
         // Register for file change event of go.sum file.
         mainProject.getMessageBus().connect().subscribe(VirtualFileManager.VFS_CHANGES, new BulkFileListener() {
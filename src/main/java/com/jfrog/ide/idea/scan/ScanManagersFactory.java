@@ -59,7 +59,7 @@ public class ScanManagersFactory {
             Logger.getInstance(mainProject).info("Previous scan still running...");
             return;
         }
-        if (!GlobalSettings.getInstance().areCredentialsSet()) {
+        if (!GlobalSettings.getInstance().isScanEnabled()) {
             Logger.getInstance(mainProject).error("Xray server is not configured.");
             return;
         }
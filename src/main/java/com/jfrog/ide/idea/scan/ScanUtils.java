@@ -0,0 +1,131 @@
+package com.jfrog.ide.idea.scan;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.jfrog.xray.client.Xray;
+import com.jfrog.xray.client.impl.ComponentsFactory;
+import com.jfrog.xray.client.services.summary.Components;
+import com.jfrog.xray.client.services.summary.General;
+import com.jfrog.xray.client.services.summary.SummaryResponse;
+import com.jfrog.xray.client.services.summary.VulnerableComponents;
+import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.jfrog.build.extractor.scan.Artifact;
+import org.jfrog.build.extractor.scan.GeneralInfo;
+import org.jfrog.build.extractor.scan.Issue;
+import org.jfrog.build.extractor.scan.License;
+import org.jfrog.build.extractor.scan.Severity;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Fetch components from Xray and convert Xray summary responses to the scan results model.
+ */
+public class ScanUtils {
+
+    /**
+     * Fetch a batch of components from Xray. May be called concurrently.
+     *
+     * @param xrayClient   - The Xray client
+     * @param componentIds - The components to fetch, without the prefix
+     * @param prefix       - The component prefix, e.g. gav:// or npm://
+     * @return map of component ID to the Xray results of the component, without components unknown to Xray
+     * @throws IOException in case of a connection error or an error response from Xray.
+     */
+    public static Map<String, Artifact> fetchComponents(Xray xrayClient, List<String> componentIds, String prefix) throws IOException {
+        Components components = ComponentsFactory.create();
+        componentIds.forEach(componentId -> components.addComponent(prefix + componentId, ""));
+        SummaryResponse summary = xrayClient.summary().component(components);
+        Map<String, Artifact> artifacts = Maps.newHashMap();
+        for (com.jfrog.xray.client.services.summary.Artifact xrayArtifact : summary.getArtifacts()) {
+            Artifact artifact = toArtifact(xrayArtifact, prefix);
+            if (!isUnknownToXray(artifact)) {
+                artifacts.put(artifact.getGeneralInfo().getComponentId(), artifact);
+            }
+        }
+        return artifacts;
+    }
+
+    /**
+     * @param xrayArtifact - Artifact from Xray summary response
+     * @param prefix       - The component prefix, e.g. gav:// or npm://
+     * @return the artifact, with the component ID stripped from the prefix
+     */
+    public static Artifact toArtifact(com.jfrog.xray.client.services.summary.Artifact xrayArtifact, String prefix) {
+        General general = xrayArtifact.getGeneral();
+        GeneralInfo generalInfo = new GeneralInfo()
+                .componentId(StringUtils.removeStart(general.getComponentId(), prefix))
+                .name(general.getName())
+                .path(general.getPath())
+                .pkgType(general.getPkgType());
+        Set<Issue> issues = ListUtils.emptyIfNull(xrayArtifact.getIssues()).stream()
+                .map(ScanUtils::toIssue)
+                .collect(Collectors.toSet());
+        Set<License> licenses = ListUtils.emptyIfNull(xrayArtifact.getLicenses()).stream()
+                .map(ScanUtils::toLicense)
+                .collect(Collectors.toSet());
+        return new Artifact(generalInfo, issues, licenses);
+    }
+
+    /**
+     * Xray returns empty artifacts for components it doesn't know.
+     *
+     * @param artifact - Artifact converted from Xray summary response
+     * @return true if the artifact has no package type, issues and licenses
+     */
+    public static boolean isUnknownToXray(Artifact artifact) {
+        return StringUtils.isBlank(artifact.getGeneralInfo().getPkgType()) &&
+                artifact.getIssues().isEmpty() && artifact.getLicenses().isEmpty();
+    }
+
+    public static Issue toIssue(com.jfrog.xray.client.services.summary.Issue issue) {
+        List<String> fixedVersions = ListUtils.emptyIfNull(issue.getVulnerableComponents()).stream()
+                .map(VulnerableComponents::getFixedVersions)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .distinct()
+                .collect(Collectors.toList());
+        return new Issue(issue.getCreated(), issue.getDescription(), issue.getIssueType(), issue.getProvider(),
+                toSeverity(issue.getSeverity()), issue.getSummary(), fixedVersions);
+    }
+
+    public static License toLicense(com.jfrog.xray.client.services.summary.License license) {
+        return new License(Lists.newArrayList(ListUtils.emptyIfNull(license.getComponents())), license.getFullName(),
+                license.getName(), Lists.newArrayList(ListUtils.emptyIfNull(license.getMoreInfoUrl())));
+    }
+
+    /**
+     * Create a matcher of component IDs from comma separated patterns. In each pattern, '*' matches any sequence of
+     * characters.
+     *
+     * @param patterns - Comma separated patterns, e.g. "com.acme:*, @acme/*"
+     * @return predicate which returns true if the component ID matches any of the patterns
+     */
+    public static Predicate<String> createComponentsMatcher(String patterns) {
+        List<Pattern> regexps = Arrays.stream(StringUtils.split(StringUtils.defaultString(patterns), ","))
+                .map(StringUtils::trim)
+                .filter(StringUtils::isNotEmpty)
+                .map(pattern -> Arrays.stream(StringUtils.splitPreserveAllTokens(pattern, "*"))
+                        .map(Pattern::quote)
+                        .collect(Collectors.joining(".*")))
+                .map(Pattern::compile)
+                .collect(Collectors.toList());
+        return componentId -> regexps.stream().anyMatch(regexp -> regexp.matcher(componentId).matches());
+    }
+
+    private static Severity toSeverity(String severity) {
+        try {
+            return Severity.valueOf(StringUtils.capitalize(StringUtils.lowerCase(severity)));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return Severity.Unknown;
+        }
+    }
+}
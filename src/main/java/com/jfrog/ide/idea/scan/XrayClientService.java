@@ -0,0 +1,169 @@
+package com.jfrog.ide.idea.scan;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.components.ServiceManager;
+import com.jfrog.ide.idea.configuration.GlobalSettings;
+import com.jfrog.ide.idea.configuration.XrayServerConfigImpl;
+import com.jfrog.ide.idea.events.ApplicationEvents;
+import com.jfrog.xray.client.Xray;
+import com.jfrog.xray.client.impl.XrayClient;
+import org.jfrog.client.util.KeyStoreProviderException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Application level Xray client, shared by the scan managers of all open projects.
+ * The client holds a pool of keep-alive connections, so consecutive scans reuse the TCP and TLS sessions to Xray.
+ * The client is rebuilt only after the Xray configuration changes. Users of the client hold a {@link ClientReference}
+ * while they send requests, and a replaced client is closed only after all of its references were closed, so a
+ * configuration change doesn't break the requests of running scans.
+ * The service also holds the circuit breaker of all requests to Xray, so all scans stop sending requests to a degraded
+ * Xray together, and the rate limiter through which all scan traffic flows.
+ */
+public class XrayClientService implements Disposable {
+
+    private static final String USER_AGENT = "jfrog-idea-plugin/" + XrayClientService.class.getPackage().getImplementationVersion();
+    private static final int CIRCUIT_FAILURE_THRESHOLD = 5;
+    private static final long CIRCUIT_PROBE_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(CIRCUIT_FAILURE_THRESHOLD, CIRCUIT_PROBE_INTERVAL_MILLIS, System::currentTimeMillis);
+    private final RateLimiter rateLimiter;
+    private SharedClient sharedClient;
+
+    public XrayClientService() {
+        XrayServerConfigImpl xrayConfig = GlobalSettings.getInstance().getXrayConfig();
+        rateLimiter = new RateLimiter(xrayConfig.getMaxRequestsPerSecond(), xrayConfig.getMaxComponentsPerSecond());
+        ApplicationManager.getApplication().getMessageBus().connect(this)
+                .subscribe(ApplicationEvents.ON_CONFIGURATION_DETAILS_CHANGE, () -> {
+                    closeClient();
+                    // Give the new configuration a fresh start
+                    circuitBreaker.onSuccess();
+                    XrayServerConfigImpl newConfig = GlobalSettings.getInstance().getXrayConfig();
+                    rateLimiter.setRates(newConfig.getMaxRequestsPerSecond(), newConfig.getMaxComponentsPerSecond());
+                });
+    }
+
+    public static XrayClientService getInstance() {
+        return ServiceManager.getService(XrayClientService.class);
+    }
+
+    /**
+     * Get a reference to the shared client. The client is created on first use after startup or after a configuration
+     * change. The reference must be closed when the caller is done sending requests, but the client itself must not be
+     * closed by the callers.
+     *
+     * @return a reference to the shared Xray client
+     * @throws IOException if the key store of the client could not be loaded.
+     */
+    public synchronized ClientReference acquireClient() throws IOException {
+        if (sharedClient == null) {
+            XrayServerConfigImpl xrayConfig = GlobalSettings.getInstance().getXrayConfig();
+            try {
+                sharedClient = new SharedClient(XrayClient.create(xrayConfig.getUrl(),
+                        xrayConfig.getUsername(),
+                        xrayConfig.getPassword(),
+                        USER_AGENT,
+                        xrayConfig.isNoHostVerification(),
+                        xrayConfig.getKeyStoreProvider(),
+                        xrayConfig.getProxyConfForTargetUrl(xrayConfig.getUrl())));
+            } catch (KeyStoreProviderException e) {
+                throw new IOException(e);
+            }
+        }
+        return new ClientReference(sharedClient);
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Return true if requests may be sent to Xray. While the circuit is open, Xray is probed periodically.
+     *
+     * @return false if Xray is considered unavailable
+     */
+    public boolean isAvailable() {
+        return circuitBreaker.allowRequests(() -> {
+            try (ClientReference clientReference = acquireClient()) {
+                clientReference.getClient().system().version();
+            }
+        });
+    }
+
+    /**
+     * Stop handing out the current client. It is closed as soon as all of its references are closed.
+     */
+    private synchronized void closeClient() {
+        if (sharedClient != null) {
+            sharedClient.retire();
+            sharedClient = null;
+        }
+    }
+
+    @Override
+    public void dispose() {
+        closeClient();
+    }
+
+    /**
+     * A reference to the shared client, held while sending requests.
+     */
+    public static class ClientReference implements Closeable {
+        private final SharedClient sharedClient;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private ClientReference(SharedClient sharedClient) {
+            this.sharedClient = sharedClient;
+            sharedClient.retain();
+        }
+
+        public Xray getClient() {
+            return sharedClient.client;
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                sharedClient.release();
+            }
+        }
+    }
+
+    /**
+     * The Xray client and the number of its open references.
+     */
+    private static class SharedClient {
+        private final Xray client;
+        private int references;
+        private boolean retired;
+
+        private SharedClient(Xray client) {
+            this.client = client;
+        }
+
+        private synchronized void retain() {
+            references++;
+        }
+
+        private synchronized void release() {
+            if (--references == 0 && retired) {
+                client.close();
+            }
+        }
+
+        private synchronized void retire() {
+            retired = true;
+            if (references == 0) {
+                client.close();
+            }
+        }
+    }
+}
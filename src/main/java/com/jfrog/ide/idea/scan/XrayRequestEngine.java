@@ -0,0 +1,214 @@
+package com.jfrog.ide.idea.scan;
+
+import com.google.common.collect.Lists;
+import org.jfrog.build.extractor.scan.Artifact;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Send components to Xray in concurrent batches.
+ * Up to 'concurrency' batches are in flight at any time, and the results of each batch are handed to the consumer as soon
+ * as it completes. The batch size adapts to the observed latency: it grows additively while requests complete faster
+ * than the target latency, and shrinks in proportion to the latency when they complete slower.
+ * Only the time of the request to Xray counts as latency. The fetcher times the request with the {@link RequestTimer}, so
+ * waiting for the rate limiter and between retries doesn't shrink the batches.
+ * Batches are also bounded by their estimated request payload, so batches of long component IDs, such as scoped npm
+ * packages or Go modules, don't produce oversized requests.
+ */
+public class XrayRequestEngine {
+
+    static final int MIN_BATCH_SIZE = 10;
+    static final int MAX_BATCH_SIZE = 500;
+    static final int INITIAL_BATCH_SIZE = 100;
+    static final int BATCH_SIZE_INCREASE = 25;
+    static final long TARGET_LATENCY_MILLIS = 2000;
+    static final int MAX_BATCH_PAYLOAD_BYTES = 64 * 1024;
+    // The JSON wrapper and the prefix of each component ID in the request
+    static final int COMPONENT_PAYLOAD_OVERHEAD = 32;
+
+    /**
+     * Fetch the Xray results of components. Called concurrently.
+     */
+    public interface ComponentsFetcher {
+        /**
+         * @param componentIds - The components to fetch
+         * @param timer        - Times the request to Xray. If not used, the whole fetch is timed.
+         * @return map of component ID to the Xray results of the component. Components unknown to Xray may be missing.
+         * @throws IOException in case of a connection error or an error response from Xray.
+         */
+        Map<String, Artifact> fetch(List<String> componentIds, RequestTimer timer) throws IOException;
+    }
+
+    /**
+     * Measure the latency of the requests to Xray of a batch, excluding the time spent before and between the requests.
+     * If the batch is retried, the latency of the last attempt is reported.
+     */
+    public static class RequestTimer {
+        private long latencyNanos = -1;
+
+        /**
+         * Execute and time a request to Xray.
+         *
+         * @param request - The request
+         * @param <T>     - The response type
+         * @return the response
+         * @throws IOException in case of a connection error or an error response from Xray.
+         */
+        public <T> T time(RetryPolicy.Request<T> request) throws IOException {
+            long start = System.nanoTime();
+            try {
+                return request.execute();
+            } finally {
+                latencyNanos = System.nanoTime() - start;
+            }
+        }
+    }
+
+    /**
+     * Receive the results of a batch. Called on the thread which runs the engine, one batch at a time.
+     */
+    public interface ResultsConsumer {
+        /**
+         * @param componentIds - The requested components
+         * @param artifacts    - The fetched components
+         * @throws IOException in case of an I/O error.
+         */
+        void accept(List<String> componentIds, Map<String, Artifact> artifacts) throws IOException;
+    }
+
+    private final ComponentsFetcher fetcher;
+    private final ExecutorService executor;
+    private final int concurrency;
+    private int batchSize = INITIAL_BATCH_SIZE;
+
+    /**
+     * @param fetcher     - Fetches the results of a batch from Xray
+     * @param executor    - Executor to run the requests
+     * @param concurrency - Maximal number of requests in flight
+     */
+    public XrayRequestEngine(ComponentsFetcher fetcher, ExecutorService executor, int concurrency) {
+        this.fetcher = fetcher;
+        this.executor = executor;
+        this.concurrency = Math.max(concurrency, 1);
+    }
+
+    /**
+     * Fetch all components. Blocks until all batches are completed.
+     * If a batch fails, the requests in flight are canceled and the error is thrown.
+     *
+     * @param componentIds - The components to fetch
+     * @param consumer     - Receives the results of each batch
+     * @param progress     - Receives the fraction of the fetched components. May throw an unchecked exception to cancel.
+     * @throws IOException in case of an error in a request or in the consumer.
+     */
+    public void run(List<String> componentIds, ResultsConsumer consumer, DoubleConsumer progress) throws IOException {
+        CompletionService<BatchResult> completionService = new ExecutorCompletionService<>(executor);
+        List<Future<BatchResult>> inFlight = Lists.newArrayList();
+        int next = 0;
+        int done = 0;
+        try {
+            while (done < componentIds.size()) {
+                while (next < componentIds.size() && inFlight.size() < concurrency) {
+                    List<String> batch = componentIds.subList(next, getBatchEnd(componentIds, next));
+                    next += batch.size();
+                    inFlight.add(completionService.submit(() -> fetch(batch)));
+                }
+                Future<BatchResult> completed = completionService.take();
+                inFlight.remove(completed);
+                BatchResult result = getResult(completed);
+                adaptBatchSize(result.componentIds.size(), result.latency);
+                consumer.accept(result.componentIds, result.artifacts);
+                done += result.componentIds.size();
+                progress.accept((double) done / componentIds.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for Xray");
+        } finally {
+            inFlight.forEach(future -> future.cancel(true));
+        }
+    }
+
+    int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Return the end of the batch which starts in the input index. The batch holds up to 'batchSize' components, and
+     * at least one component, while its estimated payload doesn't exceed the maximal payload.
+     *
+     * @param componentIds - All components to fetch
+     * @param start        - The index of the first component of the batch
+     * @return the index after the last component of the batch
+     */
+    private int getBatchEnd(List<String> componentIds, int start) {
+        int end = Math.min(start + batchSize, componentIds.size());
+        long payload = 0;
+        for (int i = start; i < end; i++) {
+            payload += componentIds.get(i).length() + COMPONENT_PAYLOAD_OVERHEAD;
+            if (payload > MAX_BATCH_PAYLOAD_BYTES && i > start) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Additive increase while the latency is below the target. Above the target, shrink the batch to the size expected
+     * to complete in the target latency, and at least by half.
+     *
+     * @param size    - The size of the completed batch
+     * @param latency - The latency of the completed batch in milliseconds
+     */
+    private void adaptBatchSize(int size, long latency) {
+        if (latency <= TARGET_LATENCY_MILLIS) {
+            // Don't grow on small batches, such as the last batch of a scan
+            if (size >= batchSize) {
+                batchSize = Math.min(batchSize + BATCH_SIZE_INCREASE, MAX_BATCH_SIZE);
+            }
+            return;
+        }
+        int expectedSize = (int) (size * TARGET_LATENCY_MILLIS / latency);
+        batchSize = Math.max(Math.min(batchSize / 2, expectedSize), MIN_BATCH_SIZE);
+    }
+
+    private BatchResult fetch(List<String> componentIds) throws IOException {
+        RequestTimer timer = new RequestTimer();
+        long start = System.nanoTime();
+        Map<String, Artifact> artifacts = fetcher.fetch(componentIds, timer);
+        long latencyNanos = timer.latencyNanos >= 0 ? timer.latencyNanos : System.nanoTime() - start;
+        return new BatchResult(componentIds, artifacts, TimeUnit.NANOSECONDS.toMillis(latencyNanos));
+    }
+
+    private static BatchResult getResult(Future<BatchResult> future) throws IOException, InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private static class BatchResult {
+        private final List<String> componentIds;
+        private final Map<String, Artifact> artifacts;
+        private final long latency;
+
+        private BatchResult(List<String> componentIds, Map<String, Artifact> artifacts, long latency) {
+            this.componentIds = componentIds;
+            this.artifacts = artifacts;
+            this.latency = latency;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.jfrog.ide.idea.scan.cache;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.jfrog.build.extractor.scan.Artifact;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Write-behind layer on top of the {@link ComponentsCache}.
+ * Written components are kept in memory and persisted in batches by a single background writer, so scans never wait
+ * for disk I/O. Reads see the pending components before they are persisted. Pending components unknown to Xray are
+ * held as empty optionals.
+ * The queue of pending components is bounded - If the writer falls behind, writers block until there is room.
+ * The cache is forced to the storage once per batch of writes, or at least every {@link #FLUSH_INTERVAL_MILLIS}.
+ * A batch which failed to be written stays pending, and is written again on the next drain.
+ */
+public class AsyncComponentsCache implements Closeable {
+
+    private static final int QUEUE_CAPACITY = 10000;
+    private static final int BATCH_SIZE = 500;
+    private static final long FLUSH_INTERVAL_MILLIS = 5000;
+
+    private final Map<String, Optional<Artifact>> pending = new ConcurrentHashMap<>();
+    private final BlockingQueue<String> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    // Components of a batch which failed to be written. Guarded by the drain lock.
+    private final Deque<String> retries = new ArrayDeque<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final Object drainLock = new Object();
+    private final Consumer<IOException> errorHandler;
+    private final ComponentsCache cache;
+    private final Executor executor;
+    private long lastFlush = System.currentTimeMillis();
+    private volatile boolean closed;
+
+    /**
+     * @param cache        - The persistent cache
+     * @param executor     - Executor to run the background writer
+     * @param errorHandler - Handler of errors in the background writer
+     */
+    public AsyncComponentsCache(ComponentsCache cache, Executor executor, Consumer<IOException> errorHandler) {
+        this.cache = cache;
+        this.executor = executor;
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * @param componentId - The component ID
+     * @return the cached artifact or null if the component is not in the cache. An artifact without issues and licenses
+     * is returned for components unknown to Xray.
+     * @throws IOException in case of an I/O error.
+     */
+    public Artifact get(String componentId) throws IOException {
+        Optional<Artifact> artifact = pending.get(componentId);
+        if (artifact == null) {
+            return cache.get(componentId);
+        }
+        return artifact.orElseGet(() -> ComponentsCache.createNotFoundArtifact(componentId));
+    }
+
+    /**
+     * @param componentId - The component ID
+     * @return true if the component is in the cache.
+     * @throws IOException in case of an I/O error.
+     */
+    public boolean contains(String componentId) throws IOException {
+        return pending.containsKey(componentId) || cache.contains(componentId);
+    }
+
+    /**
+     * @param componentId - The component ID
+     * @return true if the component is in the cache and its TTL didn't expire.
+     * @throws IOException in case of an I/O error.
+     */
+    public boolean isFresh(String componentId) throws IOException {
+        return pending.containsKey(componentId) || cache.isFresh(componentId);
+    }
+
+    /**
+     * Add or replace components in the cache. The components are persisted in the background.
+     *
+     * @param artifacts - Map of component ID to the Xray results of the component
+     * @throws InterruptedIOException if interrupted while waiting for room in the queue.
+     */
+    public void putAll(Map<String, Artifact> artifacts) throws InterruptedIOException {
+        for (Map.Entry<String, Artifact> entry : artifacts.entrySet()) {
+            enqueue(entry.getKey(), Optional.of(entry.getValue()));
+        }
+        scheduleDrain();
+    }
+
+    /**
+     * Remember that components are unknown to Xray. The components are persisted in the background.
+     *
+     * @param componentIds - IDs of components missing in Xray responses
+     * @throws InterruptedIOException if interrupted while waiting for room in the queue.
+     */
+    public void putNotFound(Collection<String> componentIds) throws InterruptedIOException {
+        for (String componentId : componentIds) {
+            enqueue(componentId, Optional.empty());
+        }
+        scheduleDrain();
+    }
+
+    private void enqueue(String componentId, Optional<Artifact> artifact) throws InterruptedIOException {
+        pending.put(componentId, artifact);
+        try {
+            if (!queue.offer(componentId)) {
+                // The writer falls behind - Make sure it's running and wait for room in the queue
+                scheduleDrain();
+                queue.put(componentId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the cache writer");
+        }
+    }
+
+    /**
+     * Persist all pending components and force them to the storage. Blocks until done.
+     *
+     * @throws IOException in case of an I/O error.
+     */
+    public void flush() throws IOException {
+        synchronized (drainLock) {
+            drain();
+            cache.flush();
+        }
+    }
+
+    /**
+     * Persist all pending components and stop the background writer.
+     *
+     * @throws IOException in case of an I/O error.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        flush();
+    }
+
+    private void scheduleDrain() {
+        if (!closed && drainScheduled.compareAndSet(false, true)) {
+            executor.execute(this::drainInBackground);
+        }
+    }
+
+    private void drainInBackground() {
+        try {
+            synchronized (drainLock) {
+                if (!closed && drain()) {
+                    cache.flush();
+                    lastFlush = System.currentTimeMillis();
+                }
+            }
+        } catch (IOException e) {
+            errorHandler.accept(e);
+        } finally {
+            drainScheduled.set(false);
+            // Components added after the last drain
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+
+    /**
+     * Write the queued components in batches. Must be called while holding the drain lock.
+     *
+     * @return true if any component was written
+     * @throws IOException in case of an I/O error.
+     */
+    private boolean drain() throws IOException {
+        boolean written = false;
+        List<String> batch = Lists.newArrayListWithCapacity(BATCH_SIZE);
+        while (takeBatch(batch)) {
+            written = true;
+            Map<String, Optional<Artifact>> components = Maps.newHashMapWithExpectedSize(batch.size());
+            for (String componentId : batch) {
+                // A component queued more than once is written with its latest results
+                Optional<Artifact> artifact = pending.get(componentId);
+                if (artifact != null) {
+                    components.put(componentId, artifact);
+                }
+            }
+            Map<String, Artifact> artifacts = Maps.newHashMapWithExpectedSize(components.size());
+            List<String> notFound = Lists.newArrayList();
+            components.forEach((componentId, artifact) -> {
+                if (artifact.isPresent()) {
+                    artifacts.put(componentId, artifact.get());
+                } else {
+                    notFound.add(componentId);
+                }
+            });
+            try {
+                cache.putAll(artifacts);
+                cache.putNotFound(notFound);
+            } catch (IOException e) {
+                // Keep the components pending, so they are still readable and written on the next drain
+                retries.addAll(components.keySet());
+                throw e;
+            }
+            // Components replaced while writing stay pending, since they were queued again
+            components.forEach(pending::remove);
+            batch.clear();
+            if (System.currentTimeMillis() - lastFlush > FLUSH_INTERVAL_MILLIS) {
+                cache.flush();
+                lastFlush = System.currentTimeMillis();
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Take the next batch to write - The components which failed to be written first, and then the queued components.
+     * Must be called while holding the drain lock.
+     *
+     * @param batch - The list to add the batch to
+     * @return true if the batch is not empty
+     */
+    private boolean takeBatch(List<String> batch) {
+        while (batch.size() < BATCH_SIZE && !retries.isEmpty()) {
+            batch.add(retries.pollFirst());
+        }
+        queue.drainTo(batch, BATCH_SIZE - batch.size());
+        return !batch.isEmpty();
+    }
+}
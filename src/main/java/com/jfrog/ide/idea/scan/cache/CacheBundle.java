@@ -0,0 +1,251 @@
+package com.jfrog.ide.idea.scan.cache;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.jfrog.build.extractor.scan.Artifact;
+import org.jfrog.build.extractor.scan.GeneralInfo;
+import org.jfrog.build.extractor.scan.Issue;
+import org.jfrog.build.extractor.scan.License;
+import org.jfrog.build.extractor.scan.Severity;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.DoubleConsumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Portable bundle of cached components, used to pre-seed the components cache of other machines.
+ * Bundle format: gzip of [magic][version][components count][components]. Each component is preceded by a 'more' flag,
+ * and the bundle ends with a cleared flag. Components unknown to Xray consist of the component ID, the fetch time and a
+ * 'not found' flag. The count is an upper bound, used only to report progress.
+ * Unlike the cache files, strings are written inline, so the bundle doesn't depend on the strings table of the cache.
+ * <p>
+ * Import time - Bundles are meant for machines which can't reach Xray, so the TTL of imported components starts at the
+ * import, and an old bundle isn't evicted as expired right after it is imported. The imported components keep their
+ * original fetch times, which decide which results are newer when a component is already in the cache, and which are
+ * exported again, so newer results win across machines.
+ * <p>
+ * Bundles are untrusted input. Lengths and counts are bounded, and never used to preallocate more than a small buffer,
+ * so a corrupted bundle fails with an I/O error instead of exhausting the memory.
+ */
+public class CacheBundle {
+
+    static final int MAGIC = 0x4A465842;
+    static final int VERSION = 2;
+
+    private static final int MERGE_BATCH_SIZE = 500;
+    static final int MAX_STRING_BYTES = 1 << 20;
+    static final int MAX_COLLECTION_SIZE = 1 << 16;
+    private static final int MAX_PREALLOCATED_SIZE = 16;
+
+    /**
+     * Export components from the cache to a bundle file.
+     *
+     * @param file         - The bundle file to create
+     * @param cache        - The components cache
+     * @param componentIds - The components to export. Components missing in the cache are skipped.
+     * @param progress     - Receives the fraction of the exported components
+     * @return the number of exported components
+     * @throws IOException in case of an I/O error.
+     */
+    public static int export(Path file, ComponentsCache cache, Collection<String> componentIds, DoubleConsumer progress) throws IOException {
+        int exported = 0;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(file))))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(componentIds.size());
+            int done = 0;
+            for (String componentId : componentIds) {
+                CachedComponent component = cache.getCachedComponent(componentId);
+                if (component != null) {
+                    out.writeBoolean(true);
+                    writeComponent(out, component);
+                    exported++;
+                }
+                progress.accept((double) ++done / componentIds.size());
+            }
+            out.writeBoolean(false);
+        } catch (IOException | RuntimeException e) {
+            // Don't leave partial bundles
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return exported;
+    }
+
+    /**
+     * Import components from a bundle file and merge them into the cache.
+     * A component already in the cache is replaced only if the imported results are newer. The TTL of the imported
+     * components starts at the import.
+     *
+     * @param file     - The bundle file
+     * @param cache    - The components cache
+     * @param progress - Receives the fraction of the imported components
+     * @return the number of components added or replaced in the cache
+     * @throws IOException in case of an I/O error or an invalid bundle.
+     */
+    public static int importBundle(Path file, ComponentsCache cache, DoubleConsumer progress) throws IOException {
+        int merged = 0;
+        long importedAt = System.currentTimeMillis();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a JFrog Xray cache bundle: " + file);
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported cache bundle version " + version + ": " + file);
+            }
+            int count = Math.max(in.readInt(), 1);
+            int done = 0;
+            List<CachedComponent> batch = Lists.newArrayListWithCapacity(MERGE_BATCH_SIZE);
+            while (in.readBoolean()) {
+                batch.add(readComponent(in));
+                if (batch.size() == MERGE_BATCH_SIZE) {
+                    merged += cache.merge(batch, importedAt);
+                    batch.clear();
+                }
+                progress.accept(Math.min((double) ++done / count, 1));
+            }
+            merged += cache.merge(batch, importedAt);
+        } catch (EOFException e) {
+            throw new IOException("Truncated cache bundle: " + file, e);
+        }
+        cache.flush();
+        return merged;
+    }
+
+    private static void writeComponent(DataOutputStream out, CachedComponent component) throws IOException {
+        writeString(out, component.getComponentId());
+        out.writeLong(component.getFetchedAt());
+        Artifact artifact = component.getArtifact();
+        out.writeBoolean(artifact == null);
+        if (artifact == null) {
+            return;
+        }
+        GeneralInfo generalInfo = artifact.getGeneralInfo();
+        writeString(out, generalInfo.getName());
+        writeString(out, generalInfo.getPkgType());
+        writeString(out, generalInfo.getPath());
+
+        out.writeInt(artifact.getIssues().size());
+        for (Issue issue : artifact.getIssues()) {
+            writeString(out, issue.getSeverity().name());
+            writeString(out, issue.getSummary());
+            writeString(out, issue.getDescription());
+            writeString(out, issue.getIssueType());
+            writeString(out, issue.getProvider());
+            writeString(out, issue.getCreated());
+            writeStrings(out, issue.getFixedVersions());
+        }
+
+        out.writeInt(artifact.getLicenses().size());
+        for (License license : artifact.getLicenses()) {
+            writeString(out, license.getName());
+            writeString(out, license.getFullName());
+            writeStrings(out, license.getComponents());
+            writeStrings(out, license.getMoreInfoUrl());
+        }
+    }
+
+    private static CachedComponent readComponent(DataInputStream in) throws IOException {
+        String componentId = readString(in);
+        long fetchedAt = in.readLong();
+        if (in.readBoolean()) {
+            return new CachedComponent(componentId, null, fetchedAt);
+        }
+        GeneralInfo generalInfo = new GeneralInfo()
+                .componentId(componentId)
+                .name(readString(in))
+                .pkgType(readString(in))
+                .path(readString(in));
+
+        int issuesCount = readSize(in);
+        Set<Issue> issues = Sets.newHashSetWithExpectedSize(Math.min(issuesCount, MAX_PREALLOCATED_SIZE));
+        for (int i = 0; i < issuesCount; i++) {
+            Severity severity = toSeverity(readString(in));
+            String summary = readString(in);
+            String description = readString(in);
+            String issueType = readString(in);
+            String provider = readString(in);
+            String created = readString(in);
+            List<String> fixedVersions = readStrings(in);
+            issues.add(new Issue(created, description, issueType, provider, severity, summary, fixedVersions));
+        }
+
+        int licensesCount = readSize(in);
+        Set<License> licenses = Sets.newHashSetWithExpectedSize(Math.min(licensesCount, MAX_PREALLOCATED_SIZE));
+        for (int i = 0; i < licensesCount; i++) {
+            String name = readString(in);
+            String fullName = readString(in);
+            List<String> components = readStrings(in);
+            List<String> moreInfoUrl = readStrings(in);
+            licenses.add(new License(components, fullName, name, moreInfoUrl));
+        }
+        return new CachedComponent(componentId, new Artifact(generalInfo, issues, licenses), fetchedAt);
+    }
+
+    private static Severity toSeverity(String severity) {
+        try {
+            return Severity.valueOf(severity);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return Severity.Unknown;
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeStrings(DataOutputStream out, Collection<String> values) throws IOException {
+        if (values == null) {
+            out.writeInt(0);
+            return;
+        }
+        out.writeInt(values.size());
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > MAX_STRING_BYTES) {
+            throw new IOException("Invalid string length in cache bundle: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readSize(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        if (size < 0 || size > MAX_COLLECTION_SIZE) {
+            throw new IOException("Invalid collection size in cache bundle: " + size);
+        }
+        return size;
+    }
+
+    private static List<String> readStrings(DataInputStream in) throws IOException {
+        int size = readSize(in);
+        List<String> values = Lists.newArrayListWithCapacity(Math.min(size, MAX_PREALLOCATED_SIZE));
+        for (int i = 0; i < size; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+}
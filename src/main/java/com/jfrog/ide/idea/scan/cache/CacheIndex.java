@@ -0,0 +1,204 @@
+package com.jfrog.ide.idea.scan.cache;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.function.LongPredicate;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * Memory-mapped fixed-size hash index from component ID to the offset of its record in the data log.
+ * The index is an open addressing table with linear probing. Its capacity is fixed, the owner is responsible to
+ * rebuild it in a bigger file when {@link #isFull()} returns true.
+ * File format: [magic][version][capacity][size][data length][live bytes] followed by [hash][offset][last access] slots.
+ * Offset 0 marks an empty slot, since a record can't start inside the data log header.
+ * The last access time is updated on reads, without locking, and is used for LRU eviction.
+ */
+class CacheIndex implements Closeable {
+
+    static final int HEADER_SIZE = 32;
+    private static final int SLOT_SIZE = 24;
+    private static final double MAX_LOAD_FACTOR = 0.7;
+
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int SIZE_OFFSET = 12;
+    private static final int DATA_LENGTH_OFFSET = 16;
+    private static final int LIVE_BYTES_OFFSET = 24;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+
+    private CacheIndex(FileChannel channel, MappedByteBuffer buffer, int capacity) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Open the index, or create it if it doesn't exist.
+     *
+     * @param path     - Path to the index file
+     * @param capacity - Number of slots in case the index is created. Must be a power of two.
+     * @return the index
+     * @throws IOException in case of an I/O error or an invalid file.
+     */
+    static CacheIndex open(Path path, int capacity) throws IOException {
+        FileChannel channel = FileChannel.open(path, CREATE, READ, WRITE);
+        try {
+            boolean created = channel.size() == 0;
+            if (!created) {
+                if (channel.size() < HEADER_SIZE) {
+                    throw new IOException("Invalid cache index");
+                }
+                MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+                if (header.getInt(0) != ComponentsCache.MAGIC || header.getInt(4) != ComponentsCache.VERSION) {
+                    throw new IOException("Invalid cache index");
+                }
+                capacity = header.getInt(CAPACITY_OFFSET);
+                if (Integer.bitCount(capacity) != 1 || channel.size() != HEADER_SIZE + (long) capacity * SLOT_SIZE) {
+                    throw new IOException("Invalid cache index");
+                }
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * SLOT_SIZE);
+            if (created) {
+                buffer.putInt(0, ComponentsCache.MAGIC)
+                        .putInt(4, ComponentsCache.VERSION)
+                        .putInt(CAPACITY_OFFSET, capacity);
+            }
+            return new CacheIndex(channel, buffer, capacity);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Find the slot of the input hash.
+     *
+     * @param hash    - The hash of the component ID
+     * @param matches - Returns true if the record in the input offset belongs to the component ID
+     * @return the slot of the hash if found or (-(first empty slot) - 1) otherwise
+     */
+    int find(long hash, LongPredicate matches) {
+        int mask = capacity - 1;
+        for (int slot = (int) (hash ^ (hash >>> 32)) & mask; ; slot = (slot + 1) & mask) {
+            long offset = getOffset(slot);
+            if (offset == 0) {
+                return -slot - 1;
+            }
+            if (buffer.getLong(slotPosition(slot)) == hash && matches.test(offset)) {
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * Add or replace the data log offset of the record with the input hash.
+     *
+     * @param hash       - The hash of the component ID
+     * @param offset     - The offset of the new record
+     * @param lastAccess - The last access time of the record
+     * @param matches    - Returns true if the record in the input offset belongs to the component ID
+     * @return the offset of the replaced record or 0 if the component ID is new
+     */
+    long put(long hash, long offset, long lastAccess, LongPredicate matches) {
+        int slot = find(hash, matches);
+        if (slot >= 0) {
+            long previous = getOffset(slot);
+            buffer.putLong(slotPosition(slot) + Long.BYTES, offset);
+            touch(slot, lastAccess);
+            return previous;
+        }
+        slot = -slot - 1;
+        buffer.putLong(slotPosition(slot), hash);
+        touch(slot, lastAccess);
+        buffer.putLong(slotPosition(slot) + Long.BYTES, offset);
+        buffer.putInt(SIZE_OFFSET, size() + 1);
+        return 0;
+    }
+
+    long getOffset(int slot) {
+        return buffer.getLong(slotPosition(slot) + Long.BYTES);
+    }
+
+    long getLastAccess(int slot) {
+        return buffer.getLong(slotPosition(slot) + 2 * Long.BYTES);
+    }
+
+    void touch(int slot, long lastAccess) {
+        buffer.putLong(slotPosition(slot) + 2 * Long.BYTES, lastAccess);
+    }
+
+    /**
+     * Run the consumer on all records in the index.
+     *
+     * @param consumer - The records consumer
+     * @throws IOException if thrown by the consumer.
+     */
+    void forEach(SlotConsumer consumer) throws IOException {
+        for (int slot = 0; slot < capacity; slot++) {
+            long offset = getOffset(slot);
+            if (offset != 0) {
+                consumer.accept(offset, getLastAccess(slot));
+            }
+        }
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    int size() {
+        return buffer.getInt(SIZE_OFFSET);
+    }
+
+    /**
+     * @return true if adding another record would exceed the maximal load factor.
+     */
+    boolean isFull() {
+        return size() + 1 > capacity * MAX_LOAD_FACTOR;
+    }
+
+    /**
+     * @return the length of the data log, including only records which were fully written.
+     */
+    long getDataLength() {
+        return buffer.getLong(DATA_LENGTH_OFFSET);
+    }
+
+    void setDataLength(long dataLength) {
+        buffer.putLong(DATA_LENGTH_OFFSET, dataLength);
+    }
+
+    /**
+     * @return the total length of the records referenced by the index.
+     */
+    long getLiveBytes() {
+        return buffer.getLong(LIVE_BYTES_OFFSET);
+    }
+
+    void setLiveBytes(long liveBytes) {
+        buffer.putLong(LIVE_BYTES_OFFSET, liveBytes);
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static int slotPosition(int slot) {
+        return HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    interface SlotConsumer {
+        void accept(long offset, long lastAccess) throws IOException;
+    }
+}
@@ -0,0 +1,36 @@
+package com.jfrog.ide.idea.scan.cache;
+
+import org.jfrog.build.extractor.scan.Artifact;
+
+/**
+ * Xray results of a component, with the time they were fetched from Xray.
+ */
+public class CachedComponent {
+
+    private final String componentId;
+    private final Artifact artifact;
+    private final long fetchedAt;
+
+    /**
+     * @param componentId - The component ID
+     * @param artifact    - Xray results of the component, or null if the component is unknown to Xray
+     * @param fetchedAt   - The time the results were fetched from Xray
+     */
+    public CachedComponent(String componentId, Artifact artifact, long fetchedAt) {
+        this.componentId = componentId;
+        this.artifact = artifact;
+        this.fetchedAt = fetchedAt;
+    }
+
+    public String getComponentId() {
+        return componentId;
+    }
+
+    public Artifact getArtifact() {
+        return artifact;
+    }
+
+    public long getFetchedAt() {
+        return fetchedAt;
+    }
+}
@@ -0,0 +1,661 @@
+package com.jfrog.ide.idea.scan.cache;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.jfrog.build.extractor.scan.Artifact;
+import org.jfrog.build.extractor.scan.GeneralInfo;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * Persistent cache of Xray component results, shareable between threads and between processes.
+ * The cache consists of 3 files:
+ * 1. Strings table - Interned strings referenced by the records.
+ * 2. Data log - Append-only log of component records. An updated component is appended and the old record becomes garbage.
+ * 3. Index - Memory-mapped hash index from component ID to the offset of its latest record.
+ * Lookups read a single record from the memory-mapped data log, so the cache is never fully loaded into the heap.
+ * When the garbage in the data log grows, or when the index is full, all live records are copied to a new generation of
+ * files. The 'generation' file points to the current generation and is replaced atomically.
+ * <p>
+ * Concurrency - Readers don't block each other. Writers hold the write lock in the process, and an exclusive lock on
+ * the 'cache.lock' file across processes. Records are published in the shared index only after they were fully
+ * written, so readers of other processes never see partial records. The lock file also holds the current generation,
+ * to let other processes reopen the cache after a compaction.
+ * <p>
+ * Eviction - Each record holds the time it was fetched from Xray and the time its TTL starts, and each index slot holds
+ * the last access time of its record. The TTL starts when the record is stored, unless the results were fetched
+ * elsewhere and merged, see {@link #merge(Collection, long)}. {@link #evict()} drops records older than the TTL, and
+ * then the least recently used records until the records fit in the maximal size.
+ * <p>
+ * Negative caching - Components unknown to Xray are stored as 'not found' records, with a TTL of their own. Reading
+ * such a component returns an artifact without issues and licenses.
+ */
+public class ComponentsCache implements Closeable {
+
+    static final int MAGIC = 0x4A465843;
+    static final int VERSION = 4;
+
+    private static final String GENERATION_FILE = "generation";
+    private static final String LOCK_FILE = "cache.lock";
+    private static final int DATA_HEADER_SIZE = 8;
+    private static final int INITIAL_CAPACITY = 1 << 12;
+    private static final long MIN_COMPACTION_SIZE = 1 << 20;
+    private static final Pattern GENERATION_FILE_PATTERN = Pattern.compile("(?:strings-|components-)(\\d+)(?:\\.idx|\\.dat)?");
+
+    private volatile long maxSize = Long.MAX_VALUE;
+    private volatile long ttl = Long.MAX_VALUE;
+    private volatile long notFoundTtl = Long.MAX_VALUE;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Path dir;
+    private FileChannel lockChannel;
+    private MappedByteBuffer sharedGeneration;
+    private int generation;
+    private StringTable strings;
+    private CacheIndex index;
+    private FileChannel data;
+    private volatile MappedByteBuffer dataMap;
+
+    /**
+     * Must be opened by {@link #open(ComponentsCache)} before use. Package-private for tests which inject I/O errors.
+     *
+     * @param dir - The cache directory
+     */
+    ComponentsCache(Path dir) {
+        this.dir = dir;
+    }
+
+    /**
+     * Open the cache in the input directory, or create it if it doesn't exist.
+     * A corrupted cache is discarded.
+     *
+     * @param dir - The cache directory
+     * @return the cache
+     * @throws IOException in case of an I/O error.
+     */
+    public static ComponentsCache open(Path dir) throws IOException {
+        return open(new ComponentsCache(dir));
+    }
+
+    static ComponentsCache open(ComponentsCache cache) throws IOException {
+        Files.createDirectories(cache.dir);
+        cache.lockChannel = FileChannel.open(cache.dir.resolve(LOCK_FILE), CREATE, READ, WRITE);
+        try {
+            cache.sharedGeneration = cache.lockChannel.map(FileChannel.MapMode.READ_WRITE, 0, Integer.BYTES);
+            try (FileLock ignored = cache.lockFile()) {
+                cache.openCurrentGeneration();
+            }
+        } catch (IOException e) {
+            cache.close();
+            throw e;
+        }
+        return cache;
+    }
+
+    /**
+     * Set the eviction policy.
+     *
+     * @param maxSize - Maximal total size of the records in bytes
+     * @param ttl         - Time to live of a record in milliseconds, since its TTL start
+     * @param notFoundTtl - Time to live of a record of a component unknown to Xray in milliseconds
+     */
+    public void setEvictionPolicy(long maxSize, long ttl, long notFoundTtl) {
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.notFoundTtl = notFoundTtl;
+    }
+
+    /**
+     * @param componentId - The component ID
+     * @return the cached artifact or null if the component is not in the cache. An artifact without issues and licenses
+     * is returned for components unknown to Xray.
+     * @throws IOException in case of an I/O error.
+     */
+    public Artifact get(String componentId) throws IOException {
+        reopenIfCompacted();
+        byte[] key = componentId.getBytes(StandardCharsets.UTF_8);
+        lock.readLock().lock();
+        try {
+            int slot = index.find(hash(key), candidate -> keyEquals(candidate, key));
+            if (slot < 0) {
+                return null;
+            }
+            index.touch(slot, System.currentTimeMillis());
+            Artifact artifact = RecordCodec.decode(getRecord(index.getOffset(slot)), strings);
+            return artifact != null ? artifact : createNotFoundArtifact(componentId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param componentId - The component ID
+     * @return true if the component is in the cache.
+     * @throws IOException in case of an I/O error.
+     */
+    public boolean contains(String componentId) throws IOException {
+        reopenIfCompacted();
+        byte[] key = componentId.getBytes(StandardCharsets.UTF_8);
+        lock.readLock().lock();
+        try {
+            return index.find(hash(key), candidate -> keyEquals(candidate, key)) >= 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param componentId - The component ID
+     * @return true if the component is in the cache and its TTL didn't expire.
+     * @throws IOException in case of an I/O error.
+     */
+    public boolean isFresh(String componentId) throws IOException {
+        reopenIfCompacted();
+        byte[] key = componentId.getBytes(StandardCharsets.UTF_8);
+        lock.readLock().lock();
+        try {
+            int slot = index.find(hash(key), candidate -> keyEquals(candidate, key));
+            return slot >= 0 && !isExpired(index.getOffset(slot), System.currentTimeMillis());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Read a component with the time it was fetched from Xray, without updating its last access time.
+     *
+     * @param componentId - The component ID
+     * @return the cached component or null if the component is not in the cache. The artifact of the returned component
+     * is null if the component is unknown to Xray.
+     * @throws IOException in case of an I/O error.
+     */
+    public CachedComponent getCachedComponent(String componentId) throws IOException {
+        reopenIfCompacted();
+        byte[] key = componentId.getBytes(StandardCharsets.UTF_8);
+        lock.readLock().lock();
+        try {
+            int slot = index.find(hash(key), candidate -> keyEquals(candidate, key));
+            if (slot < 0) {
+                return null;
+            }
+            long offset = index.getOffset(slot);
+            return new CachedComponent(componentId, RecordCodec.decode(getRecord(offset), strings),
+                    RecordCodec.readFetchedAt(getRecord(offset)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the IDs of all components in the cache.
+     * @throws IOException in case of an I/O error.
+     */
+    public List<String> getComponentIds() throws IOException {
+        reopenIfCompacted();
+        lock.readLock().lock();
+        try {
+            List<String> componentIds = Lists.newArrayListWithCapacity(index.size());
+            index.forEach((offset, lastAccess) ->
+                    componentIds.add(new String(RecordCodec.readKey(getRecord(offset)), StandardCharsets.UTF_8)));
+            return componentIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Add or replace a component in the cache.
+     *
+     * @param componentId - The component ID
+     * @param artifact    - Xray results of the component
+     * @throws IOException in case of an I/O error.
+     */
+    public void put(String componentId, Artifact artifact) throws IOException {
+        lock.writeLock().lock();
+        try (FileLock ignored = lockFile()) {
+            prepareWrite();
+            long now = System.currentTimeMillis();
+            append(componentId, artifact, now, now, now);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Add or replace components in the cache, while holding the locks once.
+     *
+     * @param artifacts - Map of component ID to the Xray results of the component
+     * @throws IOException in case of an I/O error.
+     */
+    public void putAll(Map<String, Artifact> artifacts) throws IOException {
+        lock.writeLock().lock();
+        try (FileLock ignored = lockFile()) {
+            prepareWrite();
+            long now = System.currentTimeMillis();
+            for (Map.Entry<String, Artifact> entry : artifacts.entrySet()) {
+                append(entry.getKey(), entry.getValue(), now, now, now);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remember that components are unknown to Xray.
+     *
+     * @param componentIds - IDs of components missing in Xray responses
+     * @throws IOException in case of an I/O error.
+     */
+    public void putNotFound(Collection<String> componentIds) throws IOException {
+        lock.writeLock().lock();
+        try (FileLock ignored = lockFile()) {
+            prepareWrite();
+            long now = System.currentTimeMillis();
+            for (String componentId : componentIds) {
+                append(componentId, null, now, now, now);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Merge components fetched elsewhere into the cache.
+     * A component already in the cache is replaced only if the merged component was fetched from Xray later.
+     * The merged components keep their original fetch time, so newer results still win in later merges and exports, but
+     * their TTL starts at the input merge time, regardless of how long ago they were fetched elsewhere.
+     *
+     * @param components - The components to merge
+     * @param mergedAt   - The TTL start of the merged components
+     * @return the number of added or replaced components
+     * @throws IOException in case of an I/O error.
+     */
+    public int merge(Collection<CachedComponent> components, long mergedAt) throws IOException {
+        lock.writeLock().lock();
+        try (FileLock ignored = lockFile()) {
+            prepareWrite();
+            long now = System.currentTimeMillis();
+            int merged = 0;
+            for (CachedComponent component : components) {
+                byte[] key = component.getComponentId().getBytes(StandardCharsets.UTF_8);
+                int slot = index.find(hash(key), candidate -> keyEquals(candidate, key));
+                if (slot >= 0 && RecordCodec.readFetchedAt(getRecord(index.getOffset(slot))) >= component.getFetchedAt()) {
+                    continue;
+                }
+                append(component.getComponentId(), component.getArtifact(), component.getFetchedAt(), mergedAt, now);
+                merged++;
+            }
+            return merged;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Force all changes to the storage and compact the data log if it contains too much garbage.
+     *
+     * @throws IOException in case of an I/O error.
+     */
+    public void flush() throws IOException {
+        lock.writeLock().lock();
+        try (FileLock ignored = lockFile()) {
+            prepareWrite();
+            long dataLength = index.getDataLength();
+            if (dataLength > MIN_COMPACTION_SIZE && dataLength - DATA_HEADER_SIZE > index.getLiveBytes() * 2) {
+                compact(index.capacity(), offset -> true);
+                return;
+            }
+            strings.force();
+            data.force(false);
+            index.force();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drop expired records, and then the least recently used records until the records fit in the maximal size.
+     *
+     * @return the number of dropped records
+     * @throws IOException in case of an I/O error.
+     */
+    public int evict() throws IOException {
+        lock.writeLock().lock();
+        try (FileLock ignored = lockFile()) {
+            prepareWrite();
+            long now = System.currentTimeMillis();
+            List<long[]> records = Lists.newArrayListWithCapacity(index.size());
+            long[] totalSize = {0};
+            index.forEach((offset, lastAccess) -> {
+                long length = getRecordSize(offset);
+                if (!isExpired(offset, now)) {
+                    records.add(new long[]{offset, lastAccess, length});
+                    totalSize[0] += length;
+                }
+            });
+            // Keep the most recently used records
+            records.sort(Comparator.comparingLong((long[] record) -> record[1]).reversed());
+            while (totalSize[0] > maxSize && !records.isEmpty()) {
+                totalSize[0] -= records.remove(records.size() - 1)[2];
+            }
+            int evicted = index.size() - records.size();
+            if (evicted > 0) {
+                Set<Long> kept = Sets.newHashSetWithExpectedSize(records.size());
+                records.forEach(record -> kept.add(record[0]));
+                compact(index.capacity(), kept::contains);
+            }
+            return evicted;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try (FileChannel ignored = lockChannel) {
+            sharedGeneration = null;
+            closeFiles();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reopen the cache if another process switched to a new generation.
+     *
+     * @throws IOException in case of an I/O error.
+     */
+    private void reopenIfCompacted() throws IOException {
+        if (sharedGeneration.getInt(0) == generation) {
+            return;
+        }
+        lock.writeLock().lock();
+        try (FileLock ignored = lockFile()) {
+            reopenIfCompactedLocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void reopenIfCompactedLocked() throws IOException {
+        if (sharedGeneration.getInt(0) != generation) {
+            closeFiles();
+            openCurrentGeneration();
+        }
+    }
+
+    /**
+     * Make the cache ready for writing. Must be called while holding the write lock and the file lock.
+     *
+     * @throws IOException in case of an I/O error.
+     */
+    private void prepareWrite() throws IOException {
+        reopenIfCompactedLocked();
+        strings.refresh();
+    }
+
+    private boolean isExpired(long offset, long now) throws IOException {
+        long ttlStart = RecordCodec.readTtlStart(getRecord(offset));
+        return now - ttlStart >= (RecordCodec.readNotFound(getRecord(offset)) ? notFoundTtl : ttl);
+    }
+
+    static Artifact createNotFoundArtifact(String componentId) {
+        return new Artifact(new GeneralInfo().componentId(componentId), Sets.newHashSet(), Sets.newHashSet());
+    }
+
+    /**
+     * Append a record to the data log and publish it in the index.
+     *
+     * @param componentId - The component ID
+     * @param artifact    - Xray results of the component, or null if the component is unknown to Xray
+     * @param fetchedAt   - The time the component was fetched from Xray
+     * @param ttlStart    - The time the TTL of the record starts
+     * @param lastAccess  - The last access time of the component
+     * @throws IOException in case of an I/O error.
+     */
+    private void append(String componentId, Artifact artifact, long fetchedAt, long ttlStart, long lastAccess) throws IOException {
+        if (index.isFull()) {
+            compact(index.capacity() << 1, offset -> true);
+        }
+        byte[] record = RecordCodec.encode(componentId, artifact, fetchedAt, ttlStart, strings);
+        byte[] key = componentId.getBytes(StandardCharsets.UTF_8);
+        long offset = index.getDataLength();
+        ByteBuffer buffer = ByteBuffer.wrap(record);
+        while (buffer.hasRemaining()) {
+            data.write(buffer, offset + buffer.position());
+        }
+        // Publish the record only after it was fully written and is inside the data length readers map
+        index.setDataLength(offset + record.length);
+        long previous = index.put(hash(key), offset, lastAccess, candidate -> keyEquals(candidate, key));
+        long liveBytes = index.getLiveBytes() + record.length;
+        if (previous != 0) {
+            liveBytes -= getRecordSize(previous);
+        }
+        index.setLiveBytes(liveBytes);
+    }
+
+    /**
+     * Copy the live records to a new generation of files. Must be called while holding the write lock and the file lock.
+     *
+     * @param capacity - The capacity of the new index
+     * @param keep     - Returns true if the record in the input offset should be copied
+     * @throws IOException in case of an I/O error.
+     */
+    private void compact(int capacity, LongPredicate keep) throws IOException {
+        ComponentsCache compacted = new ComponentsCache(dir);
+        compacted.generation = generation + 1;
+        try {
+            compacted.deleteGeneration(compacted.generation);
+            compacted.openGeneration(compacted.generation, capacity);
+            index.forEach((offset, lastAccess) -> {
+                if (!keep.test(offset)) {
+                    return;
+                }
+                String componentId = new String(RecordCodec.readKey(getRecord(offset)), StandardCharsets.UTF_8);
+                long fetchedAt = RecordCodec.readFetchedAt(getRecord(offset));
+                long ttlStart = RecordCodec.readTtlStart(getRecord(offset));
+                Artifact artifact = RecordCodec.decode(getRecord(offset), strings);
+                compacted.append(componentId, artifact, fetchedAt, ttlStart, lastAccess);
+            });
+            compacted.strings.force();
+            compacted.data.force(false);
+            compacted.index.force();
+            compacted.writeGeneration();
+        } catch (IOException e) {
+            compacted.closeFiles();
+            compacted.deleteGeneration(compacted.generation);
+            throw e;
+        }
+
+        // Switch to the new generation and delete the old ones
+        closeFiles();
+        generation = compacted.generation;
+        strings = compacted.strings;
+        index = compacted.index;
+        data = compacted.data;
+        sharedGeneration.putInt(0, generation);
+        deleteStaleGenerations();
+    }
+
+    /**
+     * Open the generation from the generation file. Discard it if it's corrupted.
+     * Must be called while holding the file lock.
+     *
+     * @throws IOException in case of an I/O error.
+     */
+    private void openCurrentGeneration() throws IOException {
+        generation = readGeneration();
+        try {
+            openGeneration(generation, INITIAL_CAPACITY);
+        } catch (IOException | RuntimeException e) {
+            closeFiles();
+            deleteGeneration(generation);
+            generation++;
+            openGeneration(generation, INITIAL_CAPACITY);
+            writeGeneration();
+        }
+        sharedGeneration.putInt(0, generation);
+        deleteStaleGenerations();
+    }
+
+    private void openGeneration(int generation, int capacity) throws IOException {
+        strings = StringTable.open(dir.resolve("strings-" + generation));
+        index = CacheIndex.open(dir.resolve("components-" + generation + ".idx"), capacity);
+        data = FileChannel.open(dir.resolve("components-" + generation + ".dat"), CREATE, READ, WRITE);
+        dataMap = null;
+        if (data.size() == 0) {
+            ByteBuffer header = ByteBuffer.allocate(DATA_HEADER_SIZE).putInt(MAGIC).putInt(VERSION);
+            header.flip();
+            data.write(header, 0);
+            index.setDataLength(DATA_HEADER_SIZE);
+            return;
+        }
+        ByteBuffer header = ByteBuffer.allocate(DATA_HEADER_SIZE);
+        data.read(header, 0);
+        header.flip();
+        long dataLength = index.getDataLength();
+        if (header.remaining() < DATA_HEADER_SIZE || header.getInt() != MAGIC || header.getInt() != VERSION ||
+                dataLength < DATA_HEADER_SIZE || dataLength > data.size()) {
+            throw new IOException("Invalid cache data log");
+        }
+        // Drop records which were written but not published in the index
+        if (dataLength < data.size()) {
+            data.truncate(dataLength);
+        }
+    }
+
+    /**
+     * Return the record in the input offset.
+     * The data log is mapped once and remapped only if the record was appended after the mapping.
+     *
+     * @param offset - The offset of the record in the data log
+     * @return read-only buffer positioned at the beginning of the record
+     * @throws IOException in case of an I/O error.
+     */
+    private ByteBuffer getRecord(long offset) throws IOException {
+        MappedByteBuffer dataMap = this.dataMap;
+        if (dataMap == null || offset + Integer.BYTES > dataMap.capacity() ||
+                offset + Integer.BYTES + dataMap.getInt((int) offset) > dataMap.capacity()) {
+            dataMap = data.map(FileChannel.MapMode.READ_ONLY, 0, index.getDataLength());
+            this.dataMap = dataMap;
+        }
+        ByteBuffer record = dataMap.duplicate();
+        record.position((int) offset);
+        return record;
+    }
+
+    /**
+     * @param offset - The offset of the record in the data log
+     * @return the size of the record in the data log, including its length prefix
+     * @throws IOException in case of an I/O error.
+     */
+    private long getRecordSize(long offset) throws IOException {
+        return Integer.BYTES + getRecord(offset).getInt();
+    }
+
+    private boolean keyEquals(long offset, byte[] key) {
+        try {
+            return Arrays.equals(RecordCodec.readKey(getRecord(offset)), key);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private FileLock lockFile() throws IOException {
+        // Lock a region outside the mapped generation, since locked regions can't be mapped on some platforms
+        return lockChannel.lock(Integer.BYTES, 1, false);
+    }
+
+    private void closeFiles() throws IOException {
+        dataMap = null;
+        try (StringTable ignored1 = strings; CacheIndex ignored2 = index; FileChannel ignored3 = data) {
+            // Close all files
+        }
+    }
+
+    private void deleteGeneration(int generation) {
+        for (String file : new String[]{"strings-" + generation, "components-" + generation + ".idx", "components-" + generation + ".dat"}) {
+            try {
+                Files.deleteIfExists(dir.resolve(file));
+            } catch (IOException e) {
+                // The file may still be mapped. It is deleted by deleteStaleGenerations().
+            }
+        }
+    }
+
+    /**
+     * Delete the files of all generations except the current one. Files of older generations may be left behind if
+     * they were still mapped when the generation was replaced, or if a compaction was interrupted.
+     * Must be called while holding the file lock.
+     */
+    private void deleteStaleGenerations() {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+            for (Path file : files) {
+                Matcher matcher = GENERATION_FILE_PATTERN.matcher(file.getFileName().toString());
+                if (!matcher.matches() || Integer.parseInt(matcher.group(1)) == generation) {
+                    continue;
+                }
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    // The file is still mapped by another process. It will be deleted in the next sweep.
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // The stale files will be deleted in the next sweep
+        }
+    }
+
+    private int readGeneration() {
+        try {
+            return Integer.parseInt(new String(Files.readAllBytes(dir.resolve(GENERATION_FILE)), StandardCharsets.UTF_8).trim());
+        } catch (IOException | NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private void writeGeneration() throws IOException {
+        Path tmp = dir.resolve(GENERATION_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            channel.write(ByteBuffer.wrap(String.valueOf(generation).getBytes(StandardCharsets.UTF_8)));
+            channel.force(true);
+        }
+        Files.move(tmp, dir.resolve(GENERATION_FILE), ATOMIC_MOVE, REPLACE_EXISTING);
+    }
+
+    /**
+     * FNV-1a 64 bits hash.
+     */
+    private static long hash(byte[] key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
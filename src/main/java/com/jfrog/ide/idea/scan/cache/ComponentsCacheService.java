@@ -0,0 +1,157 @@
+package com.jfrog.ide.idea.scan.cache;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.jfrog.ide.idea.configuration.GlobalSettings;
+import com.jfrog.ide.idea.configuration.XrayServerConfigImpl;
+import com.jfrog.ide.idea.events.ApplicationEvents;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Application level components cache, shared by the scan managers of all open projects.
+ * The cache files are shared with other IDE instances of the same user.
+ * Components are persisted in the background by a single writer, and expired and least recently used components are
+ * evicted periodically in the background.
+ * Older versions kept a serialized cache file per project directly under the cache directory, which was never evicted.
+ * These files are deleted when the cache is first opened.
+ */
+public class ComponentsCacheService implements Disposable {
+
+    public static final Path CACHE_PATH = Paths.get(System.getProperty("user.home"), ".jfrog-idea-plugin", "cache", "components");
+    private static final Logger LOG = Logger.getInstance(ComponentsCacheService.class);
+    private static final long SWEEP_INTERVAL_MINUTES = 30;
+    // Components unknown to Xray are usually internal components, which rarely become known
+    private static final long NOT_FOUND_TTL_DAYS = 7;
+
+    private final ScheduledFuture<?> sweepTask;
+    private final Path cachePath;
+    private ComponentsCache componentsCache;
+    private AsyncComponentsCache asyncComponentsCache;
+
+    public ComponentsCacheService() {
+        this(CACHE_PATH);
+    }
+
+    /**
+     * Used by tests, to keep the cache out of the user's home directory.
+     *
+     * @param cachePath - The directory of the components cache
+     */
+    public ComponentsCacheService(Path cachePath) {
+        this.cachePath = cachePath;
+        sweepTask = AppExecutorUtil.getAppScheduledExecutorService()
+                .scheduleWithFixedDelay(this::sweep, 1, SWEEP_INTERVAL_MINUTES, TimeUnit.MINUTES);
+        ApplicationManager.getApplication().getMessageBus().connect(this)
+                .subscribe(ApplicationEvents.ON_CONFIGURATION_DETAILS_CHANGE, this::updateEvictionPolicy);
+    }
+
+    public static ComponentsCacheService getInstance() {
+        return ServiceManager.getService(ComponentsCacheService.class);
+    }
+
+    /**
+     * Open the cache on first use.
+     *
+     * @return the shared components cache
+     * @throws IOException in case of an I/O error while opening the cache.
+     */
+    public synchronized AsyncComponentsCache getCache() throws IOException {
+        if (componentsCache == null) {
+            deleteLegacyCaches(cachePath.getParent());
+            componentsCache = ComponentsCache.open(cachePath);
+            asyncComponentsCache = new AsyncComponentsCache(componentsCache,
+                    AppExecutorUtil.createBoundedApplicationPoolExecutor("JFrog Xray cache writer", 1),
+                    e -> LOG.warn("Failed to write to the components cache", e));
+            updateEvictionPolicy();
+        }
+        return asyncComponentsCache;
+    }
+
+    /**
+     * Persist the pending components and return the persistent cache.
+     * Used by bulk operations on the cache, such as export and import of cache bundles.
+     *
+     * @return the shared persistent components cache
+     * @throws IOException in case of an I/O error.
+     */
+    public synchronized ComponentsCache getFlushedCache() throws IOException {
+        getCache().flush();
+        return componentsCache;
+    }
+
+    /**
+     * Delete the per-project cache files of older versions, e.g. 'my-projectXrayCache.json'. The cache directory
+     * contains only the directories of the current caches, so every regular file directly under it is a legacy cache.
+     *
+     * @param legacyCachesDir - The cache directory
+     */
+    static void deleteLegacyCaches(Path legacyCachesDir) {
+        if (!Files.isDirectory(legacyCachesDir)) {
+            return;
+        }
+        long deletedBytes = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(legacyCachesDir, Files::isRegularFile)) {
+            for (Path file : files) {
+                long size = Files.size(file);
+                Files.delete(file);
+                deletedBytes += size;
+            }
+        } catch (IOException e) {
+            LOG.warn("Failed to delete the legacy caches in " + legacyCachesDir, e);
+        }
+        if (deletedBytes > 0) {
+            LOG.info("Deleted " + deletedBytes / 1024 + " KB of legacy caches in " + legacyCachesDir);
+        }
+    }
+
+    private synchronized void updateEvictionPolicy() {
+        if (componentsCache == null) {
+            return;
+        }
+        XrayServerConfigImpl xrayConfig = GlobalSettings.getInstance().getXrayConfig();
+        componentsCache.setEvictionPolicy(xrayConfig.getCacheMaxSizeMb() * 1024L * 1024L,
+                TimeUnit.HOURS.toMillis(xrayConfig.getCacheTtlHours()), TimeUnit.DAYS.toMillis(NOT_FOUND_TTL_DAYS));
+    }
+
+    /**
+     * Evict expired and least recently used components.
+     */
+    private synchronized void sweep() {
+        try {
+            getCache();
+            int evicted = componentsCache.evict();
+            if (evicted > 0) {
+                LOG.info("Evicted " + evicted + " components from the components cache");
+            }
+        } catch (IOException e) {
+            LOG.warn("Failed to evict components from the components cache", e);
+        }
+    }
+
+    @Override
+    public synchronized void dispose() {
+        sweepTask.cancel(false);
+        if (componentsCache == null) {
+            return;
+        }
+        try {
+            // Persist the pending components
+            asyncComponentsCache.close();
+            componentsCache.close();
+        } catch (IOException e) {
+            LOG.warn("Failed to close the components cache", e);
+        }
+        componentsCache = null;
+        asyncComponentsCache = null;
+    }
+}
@@ -0,0 +1,244 @@
+package com.jfrog.ide.idea.scan.cache;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.apache.commons.collections4.CollectionUtils;
+import org.jfrog.build.extractor.scan.Artifact;
+import org.jfrog.build.extractor.scan.GeneralInfo;
+import org.jfrog.build.extractor.scan.Issue;
+import org.jfrog.build.extractor.scan.License;
+import org.jfrog.build.extractor.scan.Severity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Encode and decode component records of the cache data log.
+ * Record format: [record length][component ID][fetch time][TTL start][record type][general info][issues][licenses].
+ * Records of components unknown to Xray end after the record type.
+ * The fetch time is the time the results were fetched from Xray, possibly on another machine, and the TTL start is the
+ * time the results were stored in this cache.
+ * The record length, the fetch time and the TTL start are fixed size integers and the record type is a single byte. All other numbers are variable-length integers, and all
+ * strings except the component ID are ids in the {@link StringTable}.
+ */
+class RecordCodec {
+
+    static final byte TYPE_ARTIFACT = 0;
+    static final byte TYPE_NOT_FOUND = 1;
+
+    /**
+     * Encode an artifact to a data log record.
+     *
+     * @param componentId - The component ID
+     * @param artifact    - The artifact to encode, or null if the component is unknown to Xray
+     * @param fetchedAt   - The time the artifact was fetched from Xray
+     * @param ttlStart    - The time the TTL of the record starts
+     * @param strings     - The strings table used to intern the artifact's strings
+     * @return the record
+     * @throws IOException in case of an I/O error while writing to the strings table.
+     */
+    static byte[] encode(String componentId, Artifact artifact, long fetchedAt, long ttlStart, StringTable strings) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeKey(out, componentId);
+        out.write(ByteBuffer.allocate(2 * Long.BYTES).putLong(fetchedAt).putLong(ttlStart).array(), 0, 2 * Long.BYTES);
+        if (artifact == null) {
+            out.write(TYPE_NOT_FOUND);
+            return toRecord(out);
+        }
+        out.write(TYPE_ARTIFACT);
+
+        GeneralInfo generalInfo = artifact.getGeneralInfo();
+        writeString(out, strings, generalInfo.getName());
+        writeString(out, strings, generalInfo.getPkgType());
+        writeString(out, strings, generalInfo.getPath());
+
+        Set<Issue> issues = artifact.getIssues();
+        writeVarInt(out, issues.size());
+        for (Issue issue : issues) {
+            writeString(out, strings, issue.getSeverity().name());
+            writeString(out, strings, issue.getSummary());
+            writeString(out, strings, issue.getDescription());
+            writeString(out, strings, issue.getIssueType());
+            writeString(out, strings, issue.getProvider());
+            writeString(out, strings, issue.getCreated());
+            writeStrings(out, strings, issue.getFixedVersions());
+        }
+
+        Set<License> licenses = artifact.getLicenses();
+        writeVarInt(out, licenses.size());
+        for (License license : licenses) {
+            writeString(out, strings, license.getName());
+            writeString(out, strings, license.getFullName());
+            writeStrings(out, strings, license.getComponents());
+            writeStrings(out, strings, license.getMoreInfoUrl());
+        }
+
+        return toRecord(out);
+    }
+
+    private static byte[] toRecord(ByteArrayOutputStream out) {
+        return ByteBuffer.allocate(Integer.BYTES + out.size()).putInt(out.size()).put(out.toByteArray()).array();
+    }
+
+    /**
+     * Decode an artifact from a data log record.
+     *
+     * @param record  - Buffer positioned at the beginning of the record
+     * @param strings - The strings table
+     * @return the artifact or null if the component is unknown to Xray
+     * @throws IOException if the record is corrupted.
+     */
+    static Artifact decode(ByteBuffer record, StringTable strings) throws IOException {
+        String componentId = new String(readKey(record), StandardCharsets.UTF_8);
+        record.getLong();
+        record.getLong();
+        if (record.get() == TYPE_NOT_FOUND) {
+            return null;
+        }
+        GeneralInfo generalInfo = new GeneralInfo()
+                .componentId(componentId)
+                .name(readString(record, strings))
+                .pkgType(readString(record, strings))
+                .path(readString(record, strings));
+
+        int issuesCount = readVarInt(record);
+        Set<Issue> issues = Sets.newHashSetWithExpectedSize(issuesCount);
+        for (int i = 0; i < issuesCount; i++) {
+            Severity severity = toSeverity(readString(record, strings));
+            String summary = readString(record, strings);
+            String description = readString(record, strings);
+            String issueType = readString(record, strings);
+            String provider = readString(record, strings);
+            String created = readString(record, strings);
+            List<String> fixedVersions = readStrings(record, strings);
+            issues.add(new Issue(created, description, issueType, provider, severity, summary, fixedVersions));
+        }
+
+        int licensesCount = readVarInt(record);
+        Set<License> licenses = Sets.newHashSetWithExpectedSize(licensesCount);
+        for (int i = 0; i < licensesCount; i++) {
+            String name = readString(record, strings);
+            String fullName = readString(record, strings);
+            List<String> components = readStrings(record, strings);
+            List<String> moreInfoUrl = readStrings(record, strings);
+            licenses.add(new License(components, fullName, name, moreInfoUrl));
+        }
+        return new Artifact(generalInfo, issues, licenses);
+    }
+
+    /**
+     * Read the component ID of the record.
+     *
+     * @param record - Buffer positioned at the beginning of the record
+     * @return the UTF-8 bytes of the component ID
+     */
+    static byte[] readKey(ByteBuffer record) {
+        // Skip the record length
+        record.getInt();
+        byte[] key = new byte[readVarInt(record)];
+        record.get(key);
+        return key;
+    }
+
+    /**
+     * Read the time the component was fetched from Xray.
+     *
+     * @param record - Buffer positioned at the beginning of the record
+     * @return the fetch time in milliseconds since the epoch
+     */
+    static long readFetchedAt(ByteBuffer record) {
+        readKey(record);
+        return record.getLong();
+    }
+
+    /**
+     * Read the time the TTL of the record starts.
+     *
+     * @param record - Buffer positioned at the beginning of the record
+     * @return the TTL start in milliseconds since the epoch
+     */
+    static long readTtlStart(ByteBuffer record) {
+        readKey(record);
+        record.getLong();
+        return record.getLong();
+    }
+
+    /**
+     * @param record - Buffer positioned at the beginning of the record
+     * @return true if the record is of a component unknown to Xray
+     */
+    static boolean readNotFound(ByteBuffer record) {
+        readKey(record);
+        record.getLong();
+        record.getLong();
+        return record.get() == TYPE_NOT_FOUND;
+    }
+
+    private static Severity toSeverity(String severity) {
+        try {
+            return Severity.valueOf(severity);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return Severity.Unknown;
+        }
+    }
+
+    private static void writeKey(ByteArrayOutputStream out, String componentId) {
+        byte[] key = componentId.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, key.length);
+        out.write(key, 0, key.length);
+    }
+
+    private static void writeString(ByteArrayOutputStream out, StringTable strings, String value) throws IOException {
+        // 0 is reserved for null
+        writeVarInt(out, value == null ? 0 : strings.intern(value) + 1);
+    }
+
+    private static void writeStrings(ByteArrayOutputStream out, StringTable strings, Collection<String> values) throws IOException {
+        if (CollectionUtils.isEmpty(values)) {
+            writeVarInt(out, 0);
+            return;
+        }
+        writeVarInt(out, values.size());
+        for (String value : values) {
+            writeString(out, strings, value);
+        }
+    }
+
+    private static String readString(ByteBuffer record, StringTable strings) throws IOException {
+        int id = readVarInt(record);
+        return id == 0 ? null : strings.get(id - 1);
+    }
+
+    private static List<String> readStrings(ByteBuffer record, StringTable strings) throws IOException {
+        int size = readVarInt(record);
+        List<String> values = Lists.newArrayListWithCapacity(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(record, strings));
+        }
+        return values;
+    }
+
+    static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    static int readVarInt(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+}
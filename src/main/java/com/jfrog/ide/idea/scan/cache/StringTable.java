@@ -0,0 +1,178 @@
+package com.jfrog.ide.idea.scan.cache;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * Append-only table of interned strings.
+ * Every distinct string stored in the cache (license names, issue summaries, severities, etc.) is written once and
+ * referenced by its id, which is its position in the table.
+ * File format: [magic][version] followed by [length][UTF-8 bytes] entries.
+ */
+class StringTable implements Closeable {
+
+    private static final int HEADER_SIZE = 8;
+
+    private final Map<String, Integer> ids = Maps.newHashMap();
+    private final List<String> strings = Lists.newArrayList();
+    private final FileChannel channel;
+    private long size;
+
+    private StringTable(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Open the strings table, or create it if it doesn't exist.
+     *
+     * @param path - Path to the strings table file
+     * @return the strings table
+     * @throws IOException in case of an I/O error or an invalid file.
+     */
+    static StringTable open(Path path) throws IOException {
+        StringTable stringTable = new StringTable(FileChannel.open(path, CREATE, READ, WRITE));
+        try {
+            stringTable.load();
+        } catch (IOException e) {
+            stringTable.close();
+            throw e;
+        }
+        return stringTable;
+    }
+
+    /**
+     * Return the id of the input string. Append the string to the table if it doesn't exist.
+     *
+     * @param value - The string to intern
+     * @return the id of the string
+     * @throws IOException in case of an I/O error.
+     */
+    synchronized int intern(String value) throws IOException {
+        Integer id = ids.get(value);
+        if (id != null) {
+            return id;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer entry = ByteBuffer.allocate(Integer.BYTES + bytes.length).putInt(bytes.length).put(bytes);
+        entry.flip();
+        while (entry.hasRemaining()) {
+            size += channel.write(entry, size);
+        }
+        id = strings.size();
+        strings.add(value);
+        ids.put(value, id);
+        return id;
+    }
+
+    /**
+     * @param id - The id of the string
+     * @return the string with the input id
+     * @throws IOException if the id doesn't exist in the table.
+     */
+    synchronized String get(int id) throws IOException {
+        if (id >= strings.size()) {
+            // The string may have been added by another process
+            refresh();
+        }
+        if (id < 0 || id >= strings.size()) {
+            throw new IOException("Unknown string id " + id);
+        }
+        return strings.get(id);
+    }
+
+    /**
+     * Load strings appended by other processes. Must be called before interning new strings while holding the cache
+     * file lock, so the ids of the new strings would match their position in the file.
+     *
+     * @throws IOException in case of an I/O error.
+     */
+    synchronized void refresh() throws IOException {
+        long fileSize = channel.size();
+        if (fileSize <= size) {
+            return;
+        }
+        size += readEntries(size, fileSize);
+    }
+
+    void force() throws IOException {
+        channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void load() throws IOException {
+        size = channel.size();
+        if (size == 0) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(ComponentsCache.MAGIC).putInt(ComponentsCache.VERSION);
+            header.flip();
+            channel.write(header, 0);
+            size = HEADER_SIZE;
+            return;
+        }
+        if (size < HEADER_SIZE) {
+            throw new IOException("Invalid strings table");
+        }
+        ByteBuffer header = read(0, HEADER_SIZE);
+        if (header.getInt() != ComponentsCache.MAGIC || header.getInt() != ComponentsCache.VERSION) {
+            throw new IOException("Invalid strings table");
+        }
+        long validSize = HEADER_SIZE + readEntries(HEADER_SIZE, size);
+        // Drop a partially written entry
+        if (validSize < size) {
+            channel.truncate(validSize);
+            size = validSize;
+        }
+    }
+
+    /**
+     * Read the entries between the input positions.
+     *
+     * @param from - Start position of the first entry
+     * @param to   - End position
+     * @return the length of the complete entries read
+     * @throws IOException in case of an I/O error.
+     */
+    private int readEntries(long from, long to) throws IOException {
+        if (to - from > Integer.MAX_VALUE) {
+            throw new IOException("Invalid strings table");
+        }
+        ByteBuffer buffer = read(from, (int) (to - from));
+        int validLength = 0;
+        while (buffer.remaining() >= Integer.BYTES) {
+            int length = buffer.getInt();
+            if (length < 0 || length > buffer.remaining()) {
+                break;
+            }
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            String value = new String(bytes, StandardCharsets.UTF_8);
+            ids.put(value, strings.size());
+            strings.add(value);
+            validLength = buffer.position();
+        }
+        return validLength;
+    }
+
+    private ByteBuffer read(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining() && channel.read(buffer, position + buffer.position()) >= 0) {
+            // Read until the end of the requested region
+        }
+        buffer.flip();
+        return buffer;
+    }
+}
@@ -5,6 +5,8 @@ import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.wm.ToolWindow;
 import com.intellij.openapi.wm.ToolWindowFactory;
+import com.jfrog.ide.idea.inspections.DescriptorPrefetcher;
+import com.jfrog.ide.idea.inspections.HighlightingRestarter;
 import com.jfrog.ide.idea.scan.ScanManagersFactory;
 import org.apache.commons.collections4.CollectionUtils;
 import org.jetbrains.annotations.NotNull;
@@ -27,7 +29,9 @@ public class JFrogToolWindowFactory implements ToolWindowFactory {
         boolean isSupported = CollectionUtils.isNotEmpty(ScanManagersFactory.getScanManagers(mainProject));
         DumbService.getInstance(mainProject).runWhenSmart(() -> {
             ServiceManager.getService(mainProject, JFrogToolWindow.class).initToolWindow(toolWindow, mainProject, isSupported);
+            HighlightingRestarter.register(mainProject);
             scanManagersFactory.startScan(true, null);
+            DescriptorPrefetcher.getInstance(mainProject).start();
         });
     }
 }
@@ -24,7 +24,7 @@ import java.nio.file.FileSystems;
 import java.util.regex.PatternSyntaxException;
 
 import static com.jfrog.ide.common.utils.XrayConnectionUtils.*;
-import static com.jfrog.ide.idea.configuration.XrayServerConfigImpl.DEFAULT_EXCLUSIONS;
+import static com.jfrog.ide.idea.configuration.XrayServerConfigImpl.*;
 
 /**
  * Created by romang on 1/29/17.
@@ -40,16 +40,25 @@ public class XrayGlobalConfiguration implements Configurable, Configurable.NoScr
     private JBTextField excludedPaths;
     private JBTextField username;
     private JBTextField url;
+    private JSpinner cacheMaxSize;
+    private JSpinner cacheTtl;
+    private JCheckBox offlineMode;
+    private JBTextField internalComponents;
+    private JSpinner maxConcurrentRequests;
+    private JSpinner maxRequestsPerSecond;
+    private JSpinner maxComponentsPerSecond;
     private JPanel config;
 
     public XrayGlobalConfiguration() {
         testConnectionButton.addActionListener(e -> ApplicationManager.getApplication().executeOnPooledThread(() -> {
+            Xray xrayClient = null;
             try {
                 connectionResults.setText("Connecting to Xray...");
                 config.validate();
                 config.repaint();
-                // use as a workaround to version not being username password validated
-                Xray xrayClient = createXrayClient();
+                // The shared Xray client uses the applied configuration. Test the configuration in the form with a
+                // client of its own.
+                xrayClient = createXrayClient();
                 Version xrayVersion = xrayClient.system().version();
 
                 // Check version
@@ -68,6 +77,10 @@ public class XrayGlobalConfiguration implements Configurable, Configurable.NoScr
 
             } catch (IOException | KeyStoreProviderException exception) {
                 connectionResults.setText(Results.error(exception));
+            } finally {
+                if (xrayClient != null) {
+                    xrayClient.close();
+                }
             }
         }));
     }
@@ -97,6 +110,13 @@ public class XrayGlobalConfiguration implements Configurable, Configurable.NoScr
                 .setUsername(username.getText())
                 .setPassword(String.valueOf(password.getPassword()))
                 .setExcludedPaths(excludedPaths.getText())
+                .setCacheMaxSizeMb((Integer) cacheMaxSize.getValue())
+                .setCacheTtlHours((Integer) cacheTtl.getValue())
+                .setOfflineMode(offlineMode.isSelected())
+                .setInternalComponents(internalComponents.getText())
+                .setMaxConcurrentRequests((Integer) maxConcurrentRequests.getValue())
+                .setMaxRequestsPerSecond((Integer) maxRequestsPerSecond.getValue())
+                .setMaxComponentsPerSecond((Integer) maxComponentsPerSecond.getValue())
                 .build();
 
         return !xrayConfig.equals(GlobalSettings.getInstance().getXrayConfig());
@@ -135,6 +155,7 @@ public class XrayGlobalConfiguration implements Configurable, Configurable.NoScr
 
     private void loadConfig() {
         url.getEmptyText().setText("Example: http://localhost:8000");
+        internalComponents.getEmptyText().setText("Example: com.acme:*, @acme/*");
         excludedPaths.setInputVerifier(new ExclusionsVerifier());
         connectionResults.setText("");
 
@@ -144,11 +165,25 @@ public class XrayGlobalConfiguration implements Configurable, Configurable.NoScr
             username.setText(xrayConfig.getUsername());
             password.setText(xrayConfig.getPassword());
             excludedPaths.setText(xrayConfig.getExcludedPaths());
+            cacheMaxSize.setModel(new SpinnerNumberModel(xrayConfig.getCacheMaxSizeMb(), 1, Integer.MAX_VALUE, 100));
+            cacheTtl.setModel(new SpinnerNumberModel(xrayConfig.getCacheTtlHours(), 1, Integer.MAX_VALUE, 1));
+            offlineMode.setSelected(xrayConfig.isOfflineMode());
+            internalComponents.setText(xrayConfig.getInternalComponents());
+            maxConcurrentRequests.setModel(new SpinnerNumberModel(xrayConfig.getMaxConcurrentRequests(), 1, 32, 1));
+            maxRequestsPerSecond.setModel(new SpinnerNumberModel(xrayConfig.getMaxRequestsPerSecond(), 1, Integer.MAX_VALUE, 1));
+            maxComponentsPerSecond.setModel(new SpinnerNumberModel(xrayConfig.getMaxComponentsPerSecond(), 1, Integer.MAX_VALUE, 100));
         } else {
             url.setText("");
             username.setText("");
             password.setText("");
             excludedPaths.setText(DEFAULT_EXCLUSIONS);
+            cacheMaxSize.setModel(new SpinnerNumberModel(DEFAULT_CACHE_MAX_SIZE_MB, 1, Integer.MAX_VALUE, 100));
+            cacheTtl.setModel(new SpinnerNumberModel(DEFAULT_CACHE_TTL_HOURS, 1, Integer.MAX_VALUE, 1));
+            offlineMode.setSelected(false);
+            internalComponents.setText("");
+            maxConcurrentRequests.setModel(new SpinnerNumberModel(DEFAULT_MAX_CONCURRENT_REQUESTS, 1, 32, 1));
+            maxRequestsPerSecond.setModel(new SpinnerNumberModel(DEFAULT_MAX_REQUESTS_PER_SECOND, 1, Integer.MAX_VALUE, 1));
+            maxComponentsPerSecond.setModel(new SpinnerNumberModel(DEFAULT_MAX_COMPONENTS_PER_SECOND, 1, Integer.MAX_VALUE, 100));
         }
     }
 
@@ -159,6 +194,13 @@ public class XrayGlobalConfiguration implements Configurable, Configurable.NoScr
         username = new JBTextField();
         password = new JBPasswordField();
         excludedPaths = new JBTextField();
+        cacheMaxSize = new JSpinner();
+        cacheTtl = new JSpinner();
+        offlineMode = new JCheckBox();
+        internalComponents = new JBTextField();
+        maxConcurrentRequests = new JSpinner();
+        maxRequestsPerSecond = new JSpinner();
+        maxComponentsPerSecond = new JSpinner();
 
         loadConfig();
     }
@@ -27,6 +27,20 @@ public class FilterManagerService extends FilterManager implements PersistentSta
         return ServiceManager.getService(project, FilterManagerService.class);
     }
 
+    /**
+     * Copy the selected severities, to filter issues in the background while the user may change the filters.
+     * Must be called on the EDT.
+     *
+     * @param filterManager - The filter manager of the project
+     * @return a detached filter manager with the selected severities of the input filter manager
+     */
+    public static FilterManager createSeveritiesSnapshot(@NotNull FilterManager filterManager) {
+        FilterManager snapshot = new FilterManager() {
+        };
+        snapshot.setSelectedSeverities(new HashMap<>(filterManager.getSelectedSeverities()));
+        return snapshot;
+    }
+
     /**
      * Only on first scan after project opens, update the selected-licenses from state.
      * After updating, set state's licenses map to null.
@@ -13,17 +13,21 @@ import java.awt.*;
  */
 class ComponentIssueDetails extends ComponentDetails {
 
-    private ComponentIssueDetails(DependenciesTree node) {
+    private ComponentIssueDetails(DependenciesTree node, boolean notCached) {
         super(node);
+        if (notCached) {
+            addText("Top Issue Severity:", "Unknown - Not in the local cache");
+            return;
+        }
         Issue topIssue = node.getTopIssue();
         addText("Top Issue Severity:", StringUtils.capitalize(topIssue.getSeverity().toString()));
     }
 
-    static void createIssuesDetailsView(JPanel panel, DependenciesTree node) {
+    static void createIssuesDetailsView(JPanel panel, DependenciesTree node, boolean notCached) {
         if (node == null || node.getGeneralInfo() == null) {
             createComponentInfoNotAvailablePanel(panel);
             return;
         }
-        replaceAndUpdateUI(panel, new ComponentIssueDetails(node), BorderLayout.NORTH);
+        replaceAndUpdateUI(panel, new ComponentIssueDetails(node, notCached), BorderLayout.NORTH);
     }
 }
@@ -48,9 +48,9 @@ class ComponentIssuesTable extends JBTable {
      */
     private TableRowSorter<TableModel> createTableRowSorter(TableModel model, Set<String> selectedComponents) {
         TableRowSorter<TableModel> sorter = new TableRowSorter<>(model);
-        sorter.setComparator(SEVERITY.ordinal(), Comparator.comparing(o -> ((Severity) o)));
+        sorter.setComparator(SEVERITY.ordinal(), Comparator.comparingInt(o -> ((Severity) o).ordinal()));
         sorter.setComparator(COMPONENT.ordinal(), Comparator
-                .comparing(s -> selectedComponents.contains(s.toString()) ? -1 : 0)
+                .comparingInt(s -> selectedComponents.contains(s) ? 0 : 1)
                 .thenComparing(s -> (String) s));
         sorter.setSortKeys(SORT_KEYS);
         sorter.sort();
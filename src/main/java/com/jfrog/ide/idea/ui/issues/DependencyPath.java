@@ -0,0 +1,56 @@
+package com.jfrog.ide.idea.ui.issues;
+
+import com.jfrog.ide.common.utils.ProjectsMap;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * A scan independent key of a node in the issues tree - The key of the project and the coordinates of the nodes on the
+ * path from the project node to the node. Holding the key instead of the node doesn't retain the scan results after
+ * rescans, and it is resolved against the current issues tree using {@link IssuesTree#findNode(DependencyPath)}.
+ * The paths of siblings share the path of their parent, so the paths of all nodes take constant space per node.
+ */
+public class DependencyPath {
+
+    private final ProjectsMap.ProjectKey projectKey;
+    private final DependencyPath parent;
+    private final String coordinate;
+
+    private DependencyPath(ProjectsMap.ProjectKey projectKey, DependencyPath parent, String coordinate) {
+        this.projectKey = projectKey;
+        this.parent = parent;
+        this.coordinate = coordinate;
+    }
+
+    /**
+     * @param projectKey - The key of the project
+     * @return the path of the project node
+     */
+    static DependencyPath createProjectPath(ProjectsMap.ProjectKey projectKey) {
+        return new DependencyPath(projectKey, null, null);
+    }
+
+    /**
+     * @param coordinate - The coordinate of the child, i.e. its user object
+     * @return the path of the child
+     */
+    DependencyPath createChildPath(String coordinate) {
+        return new DependencyPath(projectKey, this, coordinate);
+    }
+
+    ProjectsMap.ProjectKey getProjectKey() {
+        return projectKey;
+    }
+
+    /**
+     * @return the coordinates of the nodes on the path, from the child of the project node to the node
+     */
+    List<String> getCoordinates() {
+        LinkedList<String> coordinates = new LinkedList<>();
+        for (DependencyPath path = this; path.parent != null; path = path.parent) {
+            coordinates.addFirst(path.coordinate);
+        }
+        return coordinates;
+    }
+}
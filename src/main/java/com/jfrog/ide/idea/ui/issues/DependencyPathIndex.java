@@ -0,0 +1,57 @@
+package com.jfrog.ide.idea.ui.issues;
+
+import org.jfrog.build.extractor.scan.DependenciesTree;
+
+import java.util.*;
+
+/**
+ * Resolve the paths of coordinates to the nodes of a project in the issues tree.
+ * The children of each node on a resolved path are indexed by their coordinates on the first visit, so resolving a path
+ * takes O(depth) instead of searching the whole tree. Only the nodes on resolved paths are indexed.
+ */
+class DependencyPathIndex {
+
+    private final Map<DependenciesTree, Map<String, DependenciesTree>> children = new IdentityHashMap<>();
+    private final DependenciesTree projectNode;
+
+    /**
+     * @param projectNode - The project node in the issues tree
+     */
+    DependencyPathIndex(DependenciesTree projectNode) {
+        this.projectNode = projectNode;
+    }
+
+    /**
+     * Resolve the coordinates of the path to a node.
+     *
+     * @param coordinates - The coordinates of the nodes on the path, from the child of the project node to the node
+     * @return the node or null if not found
+     */
+    synchronized DependenciesTree get(List<String> coordinates) {
+        DependenciesTree node = projectNode;
+        for (String coordinate : coordinates) {
+            node = children.computeIfAbsent(node, DependencyPathIndex::indexChildren).get(coordinate);
+            if (node == null) {
+                return null;
+            }
+        }
+        return node;
+    }
+
+    private static Map<String, DependenciesTree> indexChildren(DependenciesTree node) {
+        Map<String, DependenciesTree> result = new HashMap<>();
+        for (DependenciesTree child : node.getChildren()) {
+            // The first sibling with the coordinate wins
+            result.putIfAbsent(getCoordinate(child), child);
+        }
+        return result;
+    }
+
+    /**
+     * @param node - The dependencies tree node
+     * @return the coordinate of the node in the path keys
+     */
+    static String getCoordinate(DependenciesTree node) {
+        return Objects.toString(node.getUserObject(), "");
+    }
+}
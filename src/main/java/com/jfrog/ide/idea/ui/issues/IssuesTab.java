@@ -1,18 +1,26 @@
 package com.jfrog.ide.idea.ui.issues;
 
 import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.intellij.openapi.actionSystem.ActionManager;
+import com.intellij.openapi.actionSystem.ActionPlaces;
+import com.intellij.openapi.actionSystem.DefaultActionGroup;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.SimpleToolWindowPanel;
 import com.intellij.ui.OnePixelSplitter;
+import com.intellij.ui.PopupHandler;
 import com.intellij.ui.ScrollPaneFactory;
 import com.intellij.ui.SideBorder;
 import com.intellij.ui.TreeSpeedSearch;
 import com.intellij.ui.components.JBLabel;
 import com.intellij.ui.components.JBPanel;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import com.intellij.util.ui.UIUtil;
+import com.jfrog.ide.common.filter.FilterManager;
+import com.jfrog.ide.idea.actions.FindDeclarationsAction;
 import com.jfrog.ide.idea.configuration.GlobalSettings;
+import com.jfrog.ide.idea.scan.ScanManager;
 import com.jfrog.ide.idea.scan.ScanManagersFactory;
 import com.jfrog.ide.idea.ui.components.FilterButton;
 import com.jfrog.ide.idea.ui.components.TitledPane;
@@ -29,6 +37,9 @@ import javax.swing.tree.TreePath;
 import java.awt.*;
 import java.util.List;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import static com.jfrog.ide.idea.ui.JFrogToolWindow.*;
@@ -38,7 +49,11 @@ import static com.jfrog.ide.idea.ui.JFrogToolWindow.*;
  */
 public class IssuesTab {
 
-    private Map<TreePath, JPanel> issuesCountPanels = Maps.newHashMap();
+    // Collects the issues of the selected nodes in the background
+    private final ExecutorService issuesTableExecutor = AppExecutorUtil.createBoundedApplicationPoolExecutor("JFrog issues table", 1);
+    // Incremented on each selection, to discard the results of previous selections
+    private final AtomicLong issuesTableGeneration = new AtomicLong();
+    private Future<?> issuesTableTask;
     private OnePixelSplitter issuesRightHorizontalSplit;
     private ComponentIssuesTable issuesTable;
     private JScrollPane issuesDetailsScroll;
@@ -89,16 +104,12 @@ public class IssuesTab {
         componentsTreePanel.add(componentsTreeTitle, BorderLayout.LINE_START);
         componentsTreePanel.add(issuesCount, BorderLayout.LINE_END);
 
-        JPanel issuesCountPanel = new JBPanel().withBackground(UIUtil.getTableBackground());
-        issuesCountPanel.setLayout(new BoxLayout(issuesCountPanel, BoxLayout.Y_AXIS));
-        issuesTree.createExpansionListener(issuesCountPanel, issuesCountPanels);
         issuesTree.setIssuesCountLabel(issuesCount);
 
-        JBPanel treePanel = new JBPanel(new BorderLayout()).withBackground(UIUtil.getTableBackground());
         TreeSpeedSearch treeSpeedSearch = new TreeSpeedSearch(issuesTree, ComponentUtils::getPathSearchString, true);
-        treePanel.add(treeSpeedSearch.getComponent(), BorderLayout.WEST);
-        treePanel.add(issuesCountPanel, BorderLayout.CENTER);
-        JScrollPane treeScrollPane = ScrollPaneFactory.createScrollPane(treePanel);
+        PopupHandler.installPopupHandler(issuesTree, new DefaultActionGroup(new FindDeclarationsAction(issuesTree)),
+                ActionPlaces.UNKNOWN, ActionManager.getInstance());
+        JScrollPane treeScrollPane = ScrollPaneFactory.createScrollPane(treeSpeedSearch.getComponent());
         treeScrollPane.getVerticalScrollBar().setUnitIncrement(SCROLL_BAR_SCROLLING_UNITS);
         return new TitledPane(JSplitPane.VERTICAL_SPLIT, TITLE_LABEL_SIZE, componentsTreePanel, treeScrollPane);
     }
@@ -125,7 +136,7 @@ public class IssuesTab {
      * @return the component details view
      */
     private JComponent createComponentsDetailsView(boolean supported) {
-        if (!GlobalSettings.getInstance().areCredentialsSet()) {
+        if (!GlobalSettings.getInstance().isScanEnabled()) {
             return ComponentUtils.createNoCredentialsView();
         }
         JLabel title = new JBLabel(" Component Details");
@@ -140,17 +151,41 @@ public class IssuesTab {
 
     /**
      * Update the issues table according to the user choice in the dependencies tree.
+     * The issues of the selected nodes and the severity filters are copied on the EDT, since the tree and the filters
+     * are changed on the EDT, and then filtered in the background. A new selection cancels the pending computation,
+     * and only the results of the latest selection are published to the table. Must be called on the EDT.
      */
     public void updateIssuesTable() {
         List<DependenciesTree> selectedNodes = getSelectedNodes();
-        Set<Issue> issueSet = ScanManagersFactory.getScanManagers(mainProject)
-                .stream()
-                .map(scanManager -> scanManager.getFilteredScanIssues(FilterManagerService.getInstance(mainProject), selectedNodes))
-                .flatMap(Collection::stream)
-                .collect(Collectors.toSet());
-
+        List<DependenciesTree> selectedIssues = selectedNodes.stream().map(IssuesTab::copyIssues).collect(Collectors.toList());
         Set<String> selectedNodeNames = selectedNodes.stream().map(DefaultMutableTreeNode::toString).collect(Collectors.toSet());
-        issuesTable.updateIssuesTable(issueSet, selectedNodeNames);
+        Set<ScanManager> scanManagers = ScanManagersFactory.getScanManagers(mainProject);
+        FilterManager filterManager = FilterManagerService.createSeveritiesSnapshot(FilterManagerService.getInstance(mainProject));
+        long generation = issuesTableGeneration.incrementAndGet();
+        if (issuesTableTask != null) {
+            issuesTableTask.cancel(false);
+        }
+        issuesTableTask = issuesTableExecutor.submit(() -> {
+            Set<Issue> issueSet = Sets.newHashSet();
+            for (ScanManager scanManager : scanManagers) {
+                if (generation != issuesTableGeneration.get()) {
+                    return; // Stale selection
+                }
+                issueSet.addAll(scanManager.getFilteredScanIssues(filterManager, selectedIssues));
+            }
+            ApplicationManager.getApplication().invokeLater(() -> issuesTable.updateIssuesTable(issueSet, selectedNodeNames),
+                    expired -> mainProject.isDisposed() || generation != issuesTableGeneration.get());
+        });
+    }
+
+    /**
+     * @param node - A node in the issues tree
+     * @return a detached node with a copy of the issues of the node, which can be read in the background
+     */
+    private static DependenciesTree copyIssues(DependenciesTree node) {
+        DependenciesTree copy = new DependenciesTree(node.getUserObject());
+        copy.setIssues(Sets.newHashSet(node.getIssues()));
+        return copy;
     }
 
     /**
@@ -185,22 +220,14 @@ public class IssuesTab {
      * Register the issues tree listeners.
      */
     public void registerListeners() {
-        issuesTree.addTreeExpansionListener();
-
         // Issues component selection listener
         issuesTree.addTreeSelectionListener(e -> {
             updateIssuesTable();
             if (e == null || e.getNewLeadSelectionPath() == null) {
                 return;
             }
-            // Color the issues count panel
-            for (TreePath path : e.getPaths()) {
-                JPanel issueCountPanel = issuesCountPanels.get(path);
-                if (issueCountPanel != null) {
-                    issueCountPanel.setBackground(e.isAddedPath(path) ? UIUtil.getTreeSelectionBackground(true) : UIUtil.getTableBackground());
-                }
-            }
-            ComponentIssueDetails.createIssuesDetailsView(issuesDetailsPanel, (DependenciesTree) e.getNewLeadSelectionPath().getLastPathComponent());
+            DependenciesTree selectedNode = (DependenciesTree) e.getNewLeadSelectionPath().getLastPathComponent();
+            ComponentIssueDetails.createIssuesDetailsView(issuesDetailsPanel, selectedNode, issuesTree.isNotCached(selectedNode));
             // Scroll back to the beginning of the scrollable panel
             ApplicationManager.getApplication().invokeLater(() -> issuesDetailsScroll.getViewport().setViewPosition(new Point()));
         });
@@ -5,7 +5,6 @@ import com.jfrog.ide.idea.ui.utils.IconUtils;
 import javax.swing.*;
 import javax.swing.table.DefaultTableCellRenderer;
 import java.awt.*;
-import java.util.Set;
 
 /**
  * Created by Yahav Itzhak on 13 Nov 2017.
@@ -45,9 +44,7 @@ public class IssuesTableCellRenderer extends DefaultTableCellRenderer {
         // As row order may change due to sorting, get actual row index.
         int actualRow = table.getRowSorter().convertRowIndexToModel(row);
 
-        Set<String> components = ((IssuesTableModel)table.getModel()).getComponents();
-        String currentComponent = (String) table.getModel().getValueAt(actualRow, IssuesTableModel.IssueColumn.COMPONENT.ordinal());
-        if (components.contains(currentComponent)) {
+        if (((IssuesTableModel) table.getModel()).isDirect(actualRow)) {
             Font bold = cellRenderer.getFont().deriveFont(Font.BOLD);
             cellRenderer.setFont(bold);
         }
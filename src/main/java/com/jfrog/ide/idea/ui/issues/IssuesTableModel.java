@@ -7,6 +7,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jfrog.build.extractor.scan.Issue;
 
 import javax.swing.table.AbstractTableModel;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -15,16 +16,29 @@ import java.util.Set;
  */
 public class IssuesTableModel extends AbstractTableModel {
 
-    private Set<Issue> issues;
-    private Set<String> components;
+    private static final IssueColumn[] COLUMNS = IssueColumn.values();
+
+    // The issues and their column values, precomputed once per model
+    private final Issue[] issues;
+    private final String[] fixedVersions;
+    private final boolean[] direct;
+    private final Set<String> components;
 
     IssuesTableModel() {
         this(Sets.newHashSet(), Sets.newHashSet());
     }
 
-    IssuesTableModel(@NotNull Set<Issue> issues, @NotNull Set<String> components) {
-        this.issues = issues;
+    IssuesTableModel(@NotNull Collection<Issue> issues, @NotNull Set<String> components) {
+        this.issues = issues.toArray(new Issue[0]);
+        this.fixedVersions = new String[this.issues.length];
+        this.direct = new boolean[this.issues.length];
         this.components = components;
+        for (int i = 0; i < this.issues.length; i++) {
+            Issue issue = this.issues[i];
+            List<String> issueFixedVersions = ListUtils.emptyIfNull(issue.getFixedVersions());
+            fixedVersions[i] = StringUtils.defaultIfEmpty(String.join(", ", issueFixedVersions), "[]");
+            direct[i] = components.contains(issue.getComponent());
+        }
     }
 
     public enum IssueColumn {
@@ -48,14 +62,22 @@ public class IssuesTableModel extends AbstractTableModel {
         return this.components;
     }
 
+    /**
+     * @param row - The row in the model
+     * @return true if the issue belongs to one of the selected components
+     */
+    boolean isDirect(int row) {
+        return direct[row];
+    }
+
     @Override
     public int getColumnCount() {
-        return IssueColumn.values().length;
+        return COLUMNS.length;
     }
 
     @Override
     public int getRowCount() {
-        return issues.size();
+        return issues.length;
     }
 
     @Override
@@ -63,14 +85,13 @@ public class IssuesTableModel extends AbstractTableModel {
         if (col == IssueColumn.SEVERITY.ordinal()) {
             return "";
         }
-        return IssueColumn.values()[col].getName();
+        return COLUMNS[col].getName();
     }
 
     @Override
     public Object getValueAt(int row, int col) {
-        IssueColumn issueColumn = IssueColumn.valueOf(IssueColumn.values()[col].toString());
-        Issue issue = (Issue) issues.toArray()[row];
-        switch (issueColumn) {
+        Issue issue = issues[row];
+        switch (COLUMNS[col]) {
             case SEVERITY:
                 return issue.getSeverity();
             case SUMMARY:
@@ -78,8 +99,7 @@ public class IssuesTableModel extends AbstractTableModel {
             case COMPONENT:
                 return issue.getComponent();
             case FIXED_VERSIONS:
-                List<String> fixedVersions = ListUtils.emptyIfNull(issue.getFixedVersions());
-                return StringUtils.defaultIfEmpty(String.join(", ", fixedVersions), "[]");
+                return fixedVersions[row];
         }
         return "N/A";
     }
@@ -3,19 +3,25 @@ package com.jfrog.ide.idea.ui.issues;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.components.ServiceManager;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.util.SimpleModificationTracker;
 import com.intellij.util.messages.MessageBusConnection;
 import com.jfrog.ide.common.filter.FilterManager;
 import com.jfrog.ide.common.utils.ProjectsMap;
 import com.jfrog.ide.idea.events.ProjectEvents;
+import com.jfrog.ide.idea.inspections.AnnotationPayload;
 import com.jfrog.ide.idea.ui.BaseTree;
 import com.jfrog.ide.idea.ui.filters.FilterManagerService;
-import com.jfrog.ide.idea.ui.listeners.IssuesTreeExpansionListener;
 import org.jetbrains.annotations.NotNull;
 import org.jfrog.build.extractor.scan.DependenciesTree;
 
 import javax.swing.*;
-import javax.swing.tree.TreePath;
+import javax.swing.tree.TreeModel;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.IntStream;
 
 /**
@@ -23,8 +29,16 @@ import java.util.stream.IntStream;
  */
 public class IssuesTree extends BaseTree {
 
-    private IssuesTreeExpansionListener issuesTreeExpansionListener;
-    private JPanel issuesCountPanel;
+    // Incremented whenever the scan results in the tree change
+    private final SimpleModificationTracker scanTracker = new SimpleModificationTracker();
+    // Node -> Its annotation payload. Contains the dependencies of the modules of all filtered projects.
+    private final Map<DependenciesTree, AnnotationPayload> annotationPayloads = Collections.synchronizedMap(new IdentityHashMap<>());
+    // Project -> The filtered project node holding the annotation payloads
+    private final Map<ProjectsMap.ProjectKey, DependenciesTree> annotatedProjects = new ConcurrentHashMap<>();
+    // Project -> The index of the paths to the nodes of the filtered project
+    private final Map<ProjectsMap.ProjectKey, DependencyPathIndex> pathIndexes = new ConcurrentHashMap<>();
+    // Project -> The components without Xray results, since they were missing in the cache when scanned offline
+    private final Map<ProjectsMap.ProjectKey, Set<String>> notCachedComponents = new ConcurrentHashMap<>();
     private JLabel issuesCount;
 
     public static IssuesTree getInstance(@NotNull Project project) {
@@ -40,18 +54,16 @@ public class IssuesTree extends BaseTree {
         this.issuesCount = issuesCount;
     }
 
-    void createExpansionListener(JPanel issuesCountPanel, Map<TreePath, JPanel> issuesCountPanels) {
-        this.issuesCountPanel = issuesCountPanel;
-        this.issuesTreeExpansionListener = new IssuesTreeExpansionListener(this, issuesCountPanel, issuesCountPanels);
-    }
-
-    void addTreeExpansionListener() {
-        addTreeExpansionListener(issuesTreeExpansionListener);
+    /**
+     * @return modification tracker of the scan results, to invalidate data derived from the tree
+     */
+    public ModificationTracker getScanTracker() {
+        return scanTracker;
     }
 
     public void populateTree(DependenciesTree root) {
         super.populateTree(root);
-        issuesTreeExpansionListener.setIssuesCountPanel();
+        scanTracker.incModificationCount();
     }
 
     @Override
@@ -70,26 +82,119 @@ public class IssuesTree extends BaseTree {
         FilterManager filterManager = FilterManagerService.getInstance(mainProject);
         filterManager.applyFilters(project, filteredRoot, new DependenciesTree());
         filteredRoot.setIssues(filteredRoot.processTreeIssues());
+        updateAnnotationPayloads(projectKey, filteredRoot);
+        pathIndexes.put(projectKey, new DependencyPathIndex(filteredRoot));
         appendProjectWhenReady(filteredRoot);
         calculateIssuesCount();
     }
 
+    /**
+     * Set the components of a project without Xray results, since they were missing in the local cache when the project
+     * was scanned offline. These components are not marked by issues, so they are not counted as issues.
+     *
+     * @param projectKey          - The key of the project
+     * @param notCachedComponents - The IDs of the components missing in the cache
+     */
+    public void setNotCachedComponents(ProjectsMap.ProjectKey projectKey, Set<String> notCachedComponents) {
+        if (notCachedComponents.isEmpty()) {
+            this.notCachedComponents.remove(projectKey);
+        } else {
+            this.notCachedComponents.put(projectKey, Collections.unmodifiableSet(notCachedComponents));
+        }
+    }
+
+    /**
+     * @param node - The dependencies tree node
+     * @return true if the Xray results of the node are unknown, since it was missing in the cache when scanned offline.
+     */
+    public boolean isNotCached(DependenciesTree node) {
+        if (notCachedComponents.isEmpty() || node.getUserObject() == null || node.getIssueCount() > 0) {
+            return false;
+        }
+        String componentId = node.getUserObject().toString();
+        return notCachedComponents.values().stream().anyMatch(componentIds -> componentIds.contains(componentId));
+    }
+
+    /**
+     * Get the annotation payload of a node in the tree. The payloads are computed once after the scan results are
+     * filtered, for the dependencies of the modules - The only nodes the inspections resolve.
+     *
+     * @param node - The dependencies tree node
+     * @return the annotation payload of the node or null if the node is not in the tree anymore
+     */
+    public AnnotationPayload getAnnotationPayload(DependenciesTree node) {
+        return annotationPayloads.get(node);
+    }
+
+    /**
+     * Replace the annotation payloads of a project. The inspections resolve the direct dependencies of the modules, and
+     * a module is either the project node or its child, so only the first two levels under the project node are needed.
+     *
+     * @param projectKey   - The key of the project
+     * @param filteredRoot - The filtered project node
+     */
+    private void updateAnnotationPayloads(ProjectsMap.ProjectKey projectKey, DependenciesTree filteredRoot) {
+        DependencyPath projectPath = DependencyPath.createProjectPath(projectKey);
+        synchronized (annotationPayloads) {
+            DependenciesTree previous = annotatedProjects.put(projectKey, filteredRoot);
+            if (previous != null) {
+                for (DependenciesTree child : previous.getChildren()) {
+                    annotationPayloads.remove(child);
+                    child.getChildren().forEach(annotationPayloads::remove);
+                }
+            }
+            for (DependenciesTree child : filteredRoot.getChildren()) {
+                // The paths of the children share the path of their parent
+                DependencyPath childPath = projectPath.createChildPath(DependencyPathIndex.getCoordinate(child));
+                annotationPayloads.put(child, AnnotationPayload.create(child, childPath, isNotCached(child)));
+                for (DependenciesTree grandchild : child.getChildren()) {
+                    DependencyPath grandchildPath = childPath.createChildPath(DependencyPathIndex.getCoordinate(grandchild));
+                    annotationPayloads.put(grandchild, AnnotationPayload.create(grandchild, grandchildPath, isNotCached(grandchild)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Find the node of a path in the current issues tree.
+     *
+     * @param path - The path to the node
+     * @return the node or null if the node is not in the tree anymore
+     */
+    public DependenciesTree findNode(DependencyPath path) {
+        DependencyPathIndex pathIndex = pathIndexes.get(path.getProjectKey());
+        TreeModel model = getModel();
+        if (pathIndex == null || model == null) {
+            return null;
+        }
+        DependenciesTree node = pathIndex.get(path.getCoordinates());
+        // The project may be filtered again, but not yet appended to the tree
+        return node != null && node.getRoot() == model.getRoot() ? node : null;
+    }
+
     @Override
     public void applyFiltersForAllProjects() {
-        resetIssuesCountPanels();
+        resetIssuesCount();
         super.applyFiltersForAllProjects();
+        scanTracker.incModificationCount();
     }
 
     @Override
     public void reset() {
         super.reset();
-        resetIssuesCountPanels();
+        synchronized (annotationPayloads) {
+            annotationPayloads.clear();
+            annotatedProjects.clear();
+        }
+        pathIndexes.clear();
+        notCachedComponents.clear();
+        scanTracker.incModificationCount();
+        resetIssuesCount();
     }
 
-    private void resetIssuesCountPanels() {
-        if (issuesCount != null && issuesCountPanel != null) {
+    private void resetIssuesCount() {
+        if (issuesCount != null) {
             issuesCount.setText("Issues (0) ");
-            issuesCountPanel.removeAll();
         }
     }
 
@@ -6,6 +6,7 @@ import com.jfrog.ide.idea.ui.utils.IconUtils;
 import org.apache.commons.lang.StringUtils;
 import org.jfrog.build.extractor.scan.DependenciesTree;
 import org.jfrog.build.extractor.scan.Issue;
+import org.jfrog.build.extractor.scan.Severity;
 
 import javax.swing.*;
 import javax.swing.tree.DefaultTreeCellRenderer;
@@ -18,6 +19,7 @@ import static com.intellij.util.ui.tree.WideSelectionTreeUI.TREE_TABLE_TREE_KEY;
  */
 public class IssuesTreeCellRenderer extends JBDefaultTreeCellRenderer {
     private static final JBTable EMPTY_TABLE = new JBTable();
+    private static final String NOT_CACHED_SUFFIX = " (not in the local cache)";
 
     @Override
     public Component getTreeCellRendererComponent(JTree tree, Object value, boolean sel, boolean expanded, boolean leaf, int row, boolean hasFocus) {
@@ -27,10 +29,21 @@ public class IssuesTreeCellRenderer extends JBDefaultTreeCellRenderer {
         // Avoid setting TreeUnfocusedSelectionBackground
         tree.putClientProperty(TREE_TABLE_TREE_KEY, EMPTY_TABLE);
 
-        // Set icon
+        // Set icon. Components missing in the local cache when scanned offline have no issues, but their severity is unknown.
+        if (tree instanceof IssuesTree && ((IssuesTree) tree).isNotCached(scanTreeNode)) {
+            cellRenderer.setIcon(IconUtils.load(StringUtils.lowerCase(Severity.Unknown.toString())));
+            cellRenderer.setText(cellRenderer.getText() + NOT_CACHED_SUFFIX);
+            return cellRenderer;
+        }
         Issue topIssue = scanTreeNode.getTopIssue();
         cellRenderer.setIcon(IconUtils.load(StringUtils.lowerCase(topIssue.getSeverity().toString())));
 
+        // Append the issues count, computed once when the scan results are filtered
+        int issueCount = scanTreeNode.getIssueCount();
+        if (issueCount > 0) {
+            cellRenderer.setText(cellRenderer.getText() + " (" + issueCount + ")");
+        }
+
         return cellRenderer;
     }
 }
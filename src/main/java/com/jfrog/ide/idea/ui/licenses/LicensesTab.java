@@ -63,7 +63,7 @@ public class LicensesTab {
      * @return the licenses details panel
      */
     private JComponent createLicenseDetailsView(boolean supported) {
-        if (!GlobalSettings.getInstance().areCredentialsSet()) {
+        if (!GlobalSettings.getInstance().isScanEnabled()) {
             return ComponentUtils.createNoCredentialsView();
         }
         JLabel title = new JBLabel(" Details");
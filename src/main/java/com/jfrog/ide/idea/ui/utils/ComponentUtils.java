@@ -1,6 +1,5 @@
 package com.jfrog.ide.idea.ui.utils;
 
-import com.google.common.collect.Lists;
 import com.intellij.openapi.actionSystem.ActionManager;
 import com.intellij.openapi.actionSystem.ActionToolbar;
 import com.intellij.openapi.actionSystem.DefaultActionGroup;
@@ -9,7 +8,6 @@ import com.intellij.ui.HyperlinkLabel;
 import com.intellij.ui.components.JBLabel;
 import com.intellij.ui.components.JBPanel;
 import com.intellij.ui.treeStructure.Tree;
-import com.intellij.util.ui.JBDimension;
 import com.intellij.util.ui.UIUtil;
 import com.jfrog.ide.idea.actions.CollapseAllAction;
 import com.jfrog.ide.idea.actions.ExpandAllAction;
@@ -17,10 +15,8 @@ import com.jfrog.ide.idea.ui.configuration.XrayGlobalConfiguration;
 import org.jfrog.build.extractor.scan.DependenciesTree;
 
 import javax.swing.*;
-import javax.swing.tree.TreeNode;
 import javax.swing.tree.TreePath;
 import java.awt.*;
-import java.util.List;
 
 /**
  * Created by romang on 5/7/17.
@@ -47,38 +43,6 @@ public class ComponentUtils {
         return label;
     }
 
-    public static JPanel createIssueCountLabel(int issueCount, int rowHeight) {
-        JPanel issueCountPanel = new JBPanel(new BorderLayout()).withBackground(UIUtil.getTableBackground());
-        JLabel issueCountLabel = new JBLabel();
-        issueCountPanel.add(issueCountLabel, BorderLayout.EAST);
-        setIssueCountPanel(issueCount, issueCountPanel);
-
-        issueCountLabel.setAlignmentX(Component.RIGHT_ALIGNMENT);
-        issueCountLabel.setMinimumSize(new JBDimension(issueCountLabel.getMinimumSize().width, rowHeight));
-        issueCountLabel.setMaximumSize(new JBDimension(issueCountLabel.getMaximumSize().width, rowHeight));
-
-        issueCountPanel.setMinimumSize(new JBDimension(issueCountPanel.getMinimumSize().width, rowHeight));
-        issueCountPanel.setMaximumSize(new JBDimension(issueCountPanel.getMaximumSize().width, rowHeight));
-        return issueCountPanel;
-    }
-
-    public static void setIssueCountPanel(int issueCount, JPanel issueCountPanel) {
-        JLabel issueCountLabel = (JLabel) issueCountPanel.getComponent(0);
-        if (issueCount != 0) {
-            issueCountLabel.setText(" (" + issueCount + ") ");
-        } else {
-            issueCountLabel.setText("");
-        }
-    }
-
-    public static TreePath getTreePath(TreeNode treeNode) {
-        List<Object> nodes = Lists.newArrayList(treeNode);
-        while ((treeNode = treeNode.getParent()) != null) {
-            nodes.add(0, treeNode);
-        }
-        return new TreePath(nodes.toArray());
-    }
-
     public static JPanel createActionToolbar(String id, JPanel filterButton, Tree componentsTree) {
         DefaultActionGroup defaultActionGroup = new DefaultActionGroup();
         defaultActionGroup.addAction(ActionManager.getInstance().getAction("Xray.Refresh"));
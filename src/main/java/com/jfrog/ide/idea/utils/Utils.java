@@ -5,12 +5,10 @@ import com.intellij.openapi.project.Project;
 import com.intellij.openapi.wm.ToolWindow;
 import com.intellij.openapi.wm.ToolWindowManager;
 import com.intellij.openapi.wm.impl.ToolWindowImpl;
-import com.jfrog.ide.idea.ui.listeners.IssuesTreeExpansionListener;
 import org.apache.commons.lang.StringUtils;
 import org.jfrog.build.extractor.scan.DependenciesTree;
 import org.jfrog.build.extractor.scan.GeneralInfo;
 
-import javax.swing.event.TreeExpansionListener;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -19,18 +17,6 @@ import java.nio.file.Paths;
  */
 public class Utils {
 
-    public static TreeExpansionListener getIssuesTreeExpansionListener(TreeExpansionListener[] treeExpansionListeners) {
-        if (treeExpansionListeners == null) {
-            return null;
-        }
-        for (TreeExpansionListener treeExpansionListener : treeExpansionListeners) {
-            if (treeExpansionListener instanceof IssuesTreeExpansionListener) {
-                return treeExpansionListener;
-            }
-        }
-        return null;
-    }
-
     public static Path getProjectBasePath(Project project) {
         return project.getBasePath() != null ? Paths.get(project.getBasePath()) : Paths.get(".");
     }
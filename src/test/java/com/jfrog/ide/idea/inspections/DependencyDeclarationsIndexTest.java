@@ -0,0 +1,49 @@
+package com.jfrog.ide.idea.inspections;
+
+import junit.framework.TestCase;
+import org.jfrog.build.extractor.scan.GeneralInfo;
+import org.junit.Assert;
+
+/**
+ * The declaration keys created from the package descriptors must match the node keys created from the dependencies
+ * tree, otherwise the declarations of the component are not found.
+ */
+public class DependencyDeclarationsIndexTest extends TestCase {
+
+    public void testMaven() {
+        String key = DependencyDeclarationsIndex.createDeclarationKey(new GeneralInfo().groupId("a").artifactId("b"));
+        Assert.assertEquals("a:b", key);
+        Assert.assertEquals(key, DependencyDeclarationsIndex.createNodeKey("a:b:1.0.0"));
+    }
+
+    public void testGradle() {
+        Assert.assertEquals("a:b", DependencyDeclarationsIndex.createDeclarationKey(new GeneralInfo().componentId("a:b")));
+        Assert.assertEquals("a:b", DependencyDeclarationsIndex.createDeclarationKey(new GeneralInfo().componentId("a:b:1.0.0")));
+        Assert.assertEquals("a:b", DependencyDeclarationsIndex.createDeclarationKey(new GeneralInfo().componentId("a:b:1.0.0@jdk8")));
+        Assert.assertEquals("a:b", DependencyDeclarationsIndex.createNodeKey("a:b:1.0.0"));
+        Assert.assertNull(DependencyDeclarationsIndex.createDeclarationKey(new GeneralInfo().componentId("a")));
+    }
+
+    public void testNpm() {
+        // The npm inspection sets the group ID to the package name
+        String key = DependencyDeclarationsIndex.createDeclarationKey(new GeneralInfo().groupId("lodash").artifactId("lodash"));
+        Assert.assertEquals("lodash", key);
+        Assert.assertEquals(key, DependencyDeclarationsIndex.createNodeKey("lodash:4.17.15"));
+
+        key = DependencyDeclarationsIndex.createDeclarationKey(new GeneralInfo().groupId("@types/node").artifactId("@types/node"));
+        Assert.assertEquals("@types/node", key);
+        Assert.assertEquals(key, DependencyDeclarationsIndex.createNodeKey("@types/node:12.0.0"));
+    }
+
+    public void testGo() {
+        String key = DependencyDeclarationsIndex.createDeclarationKey(new GeneralInfo().artifactId("github.com/jfrog/jfrog-cli-core"));
+        Assert.assertEquals("github.com/jfrog/jfrog-cli-core", key);
+        Assert.assertEquals(key, DependencyDeclarationsIndex.createNodeKey("github.com/jfrog/jfrog-cli-core:v1.0.0"));
+    }
+
+    public void testNoCoordinates() {
+        Assert.assertNull(DependencyDeclarationsIndex.createDeclarationKey(null));
+        Assert.assertNull(DependencyDeclarationsIndex.createDeclarationKey(new GeneralInfo()));
+        Assert.assertNull(DependencyDeclarationsIndex.createDeclarationKey(new GeneralInfo().groupId("a")));
+    }
+}
@@ -0,0 +1,48 @@
+package com.jfrog.ide.idea.inspections;
+
+import junit.framework.TestCase;
+import org.jfrog.build.extractor.scan.DependenciesTree;
+import org.jfrog.build.extractor.scan.GeneralInfo;
+import org.junit.Assert;
+
+public class DependencyIndexTest extends TestCase {
+
+    private DependenciesTree module;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        module = new DependenciesTree("module");
+        module.add(createDependency("a", "b"));
+        module.add(createDependency("c", "b"));
+        module.add(createDependency("a", "d"));
+        module.add(new DependenciesTree());
+    }
+
+    public void testGroupIdAndArtifactId() {
+        DependencyIndex index = new DependencyIndex(module);
+        Assert.assertSame(module.getChildAt(0), index.get(new GeneralInfo().groupId("a").artifactId("b")));
+        Assert.assertSame(module.getChildAt(1), index.get(new GeneralInfo().groupId("c").artifactId("b")));
+        Assert.assertSame(module.getChildAt(2), index.get(new GeneralInfo().groupId("a").artifactId("d")));
+    }
+
+    public void testArtifactIdOnly() {
+        DependencyIndex index = new DependencyIndex(module);
+        // The first matching dependency is returned
+        Assert.assertSame(module.getChildAt(0), index.get(new GeneralInfo().groupId("").artifactId("b")));
+        Assert.assertSame(module.getChildAt(2), index.get(new GeneralInfo().groupId("").artifactId("d")));
+    }
+
+    public void testNotFound() {
+        DependencyIndex index = new DependencyIndex(module);
+        Assert.assertNull(index.get(new GeneralInfo().groupId("c").artifactId("d")));
+        Assert.assertNull(index.get(new GeneralInfo().groupId("").artifactId("e")));
+        Assert.assertNull(new DependencyIndex(new DependenciesTree()).get(new GeneralInfo().groupId("a").artifactId("b")));
+    }
+
+    private static DependenciesTree createDependency(String groupId, String artifactId) {
+        DependenciesTree dependency = new DependenciesTree(groupId + ":" + artifactId);
+        dependency.setGeneralInfo(new GeneralInfo().groupId(groupId).artifactId(artifactId));
+        return dependency;
+    }
+}
@@ -1,6 +1,13 @@
 package com.jfrog.ide.idea.inspections;
 
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.testFramework.PlatformTestUtil;
 import org.jetbrains.plugins.groovy.lang.psi.api.statements.expressions.literals.GrLiteral;
+import org.junit.Assert;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author yahavi
@@ -39,4 +46,27 @@ public class GradleInspectionTest extends InspectionsTest {
     public void testCreateGeneralInfo() {
         createGeneralInfoTest(DEPENDENCIES);
     }
+
+    public void testIsDependencyPerformance() {
+        // Build a 2,000 lines build script with 5 dependency literals and 1 non-dependency literal per 4 lines
+        int blocks = 499;
+        StringBuilder buildScript = new StringBuilder("dependencies {\n");
+        for (int i = 0; i < blocks; i++) {
+            buildScript.append("    implementation 'g").append(i).append(":a").append(i).append(":1.0'\n")
+                    .append("    testImplementation group: 'g").append(i).append("', name: 't").append(i).append("', version: '1.0'\n")
+                    .append("    compile(\"g").append(i).append(":c").append(i).append(":1.0\") {\n")
+                    .append("        exclude module: \"x").append(i).append("\" }\n");
+        }
+        buildScript.append("}\n");
+        PsiFile file = myFixture.configureByText(PACKAGE_DESCRIPTOR, buildScript.toString());
+        Collection<GrLiteral> literals = PsiTreeUtil.findChildrenOfType(file, GrLiteral.class);
+
+        AtomicInteger dependencies = new AtomicInteger();
+        PlatformTestUtil.startPerformanceTest("isDependency on a 2,000 lines build script", 500, () -> {
+            dependencies.set(0);
+            literals.stream().filter(inspection::isDependency).forEach(literal -> dependencies.incrementAndGet());
+        }).assertTiming();
+        Assert.assertEquals(blocks * 6, literals.size());
+        Assert.assertEquals(blocks * 5, dependencies.get());
+    }
 }
@@ -0,0 +1,146 @@
+package com.jfrog.ide.idea.inspections;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.intellij.analysis.AnalysisScope;
+import com.intellij.codeInspection.CommonProblemDescriptor;
+import com.intellij.codeInspection.ex.GlobalInspectionToolWrapper;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.testFramework.InspectionTestUtil;
+import com.intellij.testFramework.InspectionsKt;
+import com.intellij.testFramework.ServiceContainerUtil;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import com.intellij.testFramework.fixtures.impl.GlobalInspectionContextForTests;
+import com.jfrog.ide.idea.scan.cache.AsyncComponentsCache;
+import com.jfrog.ide.idea.scan.cache.ComponentsCacheService;
+import org.jfrog.build.extractor.scan.Artifact;
+import org.jfrog.build.extractor.scan.GeneralInfo;
+import org.jfrog.build.extractor.scan.Issue;
+import org.jfrog.build.extractor.scan.Severity;
+import org.junit.Assert;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Run the global inspection on a package descriptor. The tool window and the scan managers are not created in the test,
+ * as in headless runs, so there are no scan results and the declarations are looked up in the components cache.
+ */
+public class VulnerableDependenciesInspectionTest extends LightJavaCodeInsightFixtureTestCase {
+
+    private static final String PACKAGE_DESCRIPTOR = "vulnerableDependencies/package.json";
+
+    private Path cacheDir;
+    private AsyncComponentsCache componentsCache;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        cacheDir = Files.createTempDirectory("components-cache");
+        ComponentsCacheService componentsCacheService = new ComponentsCacheService(cacheDir.resolve("components"));
+        Disposer.register(getTestRootDisposable(), componentsCacheService);
+        ServiceContainerUtil.replaceService(ApplicationManager.getApplication(), ComponentsCacheService.class,
+                componentsCacheService, getTestRootDisposable());
+        componentsCache = componentsCacheService.getCache();
+        myFixture.configureByFile(PACKAGE_DESCRIPTOR);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        try {
+            super.tearDown();
+        } finally {
+            try (Stream<Path> files = Files.walk(cacheDir)) {
+                files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    @Override
+    protected String getTestDataPath() {
+        return "src/test/resources";
+    }
+
+    public void testNoResults() {
+        Assert.assertEquals(Collections.emptyList(), runInspection());
+    }
+
+    public void testCachedResults() throws IOException {
+        Map<String, Artifact> artifacts = Maps.newHashMap();
+        artifacts.put("critical:1.0.0", createArtifact("critical:1.0.0", Severity.Critical, Severity.Low));
+        artifacts.put("high:5.0.0", createArtifact("high:5.0.0", Severity.High));
+        artifacts.put("low:2.0.0", createArtifact("low:2.0.0", Severity.Low, Severity.Medium));
+        // Version ranges have no component ID, so their cached results are not reported
+        artifacts.put("range:3.0.0", createArtifact("range:3.0.0", Severity.Critical));
+        componentsCache.putAll(artifacts);
+        // Components unknown to Xray have no issues
+        componentsCache.putNotFound(Lists.newArrayList("uncached:4.0.0"));
+        componentsCache.flush();
+
+        Assert.assertEquals(Lists.newArrayList(
+                "critical:1.0.0 - Top issue severity: Critical",
+                "high:5.0.0 - Top issue severity: High"), runInspection());
+    }
+
+    public void testTopIssue() {
+        Assert.assertEquals(Severity.Normal, VulnerableDependenciesInspection.getTopIssue(Collections.emptyList()).getSeverity());
+        Issue topIssue = VulnerableDependenciesInspection.getTopIssue(Lists.newArrayList(
+                createIssue(Severity.Low), createIssue(Severity.Critical), createIssue(Severity.High)));
+        Assert.assertEquals(Severity.Critical, topIssue.getSeverity());
+    }
+
+    public void testHighAndCriticalReported() {
+        Assert.assertTrue(VulnerableDependenciesInspection.isReported(createIssue(Severity.High)));
+        Assert.assertTrue(VulnerableDependenciesInspection.isReported(createIssue(Severity.Critical)));
+        Assert.assertTrue(VulnerableDependenciesInspection.isReported(VulnerableDependenciesInspection.getTopIssue(
+                Lists.newArrayList(createIssue(Severity.Low), createIssue(Severity.High)))));
+    }
+
+    public void testLowerSeveritiesNotReported() {
+        for (Severity severity : new Severity[]{Severity.Normal, Severity.Pending, Severity.Unknown, Severity.Information,
+                Severity.Low, Severity.Medium}) {
+            Assert.assertFalse(severity.toString(), VulnerableDependenciesInspection.isReported(createIssue(severity)));
+        }
+        Assert.assertFalse(VulnerableDependenciesInspection.isReported(VulnerableDependenciesInspection.getTopIssue(
+                Lists.newArrayList(createIssue(Severity.Low), createIssue(Severity.Medium)))));
+        Assert.assertFalse(VulnerableDependenciesInspection.isReported(VulnerableDependenciesInspection.getTopIssue(
+                Collections.emptyList())));
+    }
+
+    /**
+     * Run the global inspection on the project.
+     *
+     * @return the sorted descriptions of the reported problems
+     */
+    private List<String> runInspection() {
+        GlobalInspectionToolWrapper toolWrapper = new GlobalInspectionToolWrapper(new VulnerableDependenciesInspection());
+        AnalysisScope scope = new AnalysisScope(getProject());
+        GlobalInspectionContextForTests globalContext = InspectionsKt.createGlobalContextForTool(scope, getProject(),
+                Collections.singletonList(toolWrapper));
+        InspectionTestUtil.runTool(toolWrapper, scope, globalContext);
+        return globalContext.getPresentation(toolWrapper).getProblemDescriptors().stream()
+                .map(CommonProblemDescriptor::getDescriptionTemplate)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private static Artifact createArtifact(String componentId, Severity... severities) {
+        return new Artifact(new GeneralInfo().componentId(componentId),
+                Stream.of(severities).map(VulnerableDependenciesInspectionTest::createIssue).collect(Collectors.toSet()),
+                Sets.newHashSet());
+    }
+
+    private static Issue createIssue(Severity severity) {
+        return new Issue("", "", "security", "JFrog", severity, severity + " issue", Collections.emptyList());
+    }
+}
@@ -0,0 +1,41 @@
+package com.jfrog.ide.idea.scan;
+
+import junit.framework.TestCase;
+import org.jfrog.build.extractor.scan.DependenciesTree;
+import org.junit.Assert;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+public class GoVendorTreeBuilderTest extends TestCase {
+
+    private static final String[] EXPECTED_COMPONENTS = {
+            "github.com/jfrog/gocmd:v0.1.10",
+            "github.com/jfrog/gofrog:v1.0.5",
+            "golang.org/x/text:v0.3.2"
+    };
+
+    public void testBuildTree() throws IOException {
+        GoVendorTreeBuilder goVendorTreeBuilder = new GoVendorTreeBuilder(Paths.get("src", "test", "resources", "goVendor"));
+        Assert.assertTrue(goVendorTreeBuilder.isApplicable());
+
+        DependenciesTree root = goVendorTreeBuilder.buildTree();
+        Assert.assertEquals("github.com/jfrog/vendorTest", root.getUserObject());
+        Assert.assertEquals("go", root.getGeneralInfo().getPkgType());
+        String[] actual = root.getChildren().stream().map(DependenciesTree::toString).toArray(String[]::new);
+        Assert.assertArrayEquals(EXPECTED_COMPONENTS, actual);
+    }
+
+    public void testNotApplicable() {
+        Assert.assertFalse(new GoVendorTreeBuilder(Paths.get("src", "test", "resources")).isApplicable());
+    }
+
+    public void testParseModuleLine() {
+        Assert.assertEquals("a.com/b:v1.0.0", GoVendorTreeBuilder.parseModuleLine("# a.com/b v1.0.0"));
+        Assert.assertEquals("c.com/d:v2.0.0", GoVendorTreeBuilder.parseModuleLine("# a.com/b v1.0.0 => c.com/d v2.0.0"));
+        Assert.assertEquals("c.com/d:v2.0.0", GoVendorTreeBuilder.parseModuleLine("# a.com/b => c.com/d v2.0.0"));
+        Assert.assertNull(GoVendorTreeBuilder.parseModuleLine("# a.com/b v1.0.0 => ../b"));
+        Assert.assertNull(GoVendorTreeBuilder.parseModuleLine("## explicit"));
+        Assert.assertNull(GoVendorTreeBuilder.parseModuleLine("a.com/b/pkg"));
+    }
+}
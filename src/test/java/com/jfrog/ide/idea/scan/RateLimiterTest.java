@@ -0,0 +1,77 @@
+package com.jfrog.ide.idea.scan;
+
+import com.google.common.collect.Lists;
+import junit.framework.TestCase;
+import org.junit.Assert;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class RateLimiterTest extends TestCase {
+
+    public void testRequestsRate() throws InterruptedException {
+        RateLimiter rateLimiter = new RateLimiter(20, Integer.MAX_VALUE);
+        long start = System.nanoTime();
+        // 20 requests of burst and 20 more in 1 second
+        for (int i = 0; i < 40; i++) {
+            rateLimiter.acquire("project", 1);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Assert.assertTrue("Elapsed " + elapsedMillis, elapsedMillis >= 900);
+    }
+
+    public void testComponentsRate() throws InterruptedException {
+        RateLimiter rateLimiter = new RateLimiter(Integer.MAX_VALUE, 100);
+        long start = System.nanoTime();
+        // A request larger than the bucket waits for a full bucket and leaves the bucket in debt
+        rateLimiter.acquire("project", 150);
+        rateLimiter.acquire("project", 50);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        Assert.assertTrue("Elapsed " + elapsedMillis, elapsedMillis >= 900);
+    }
+
+    public void testFairQueuing() throws InterruptedException {
+        RateLimiter rateLimiter = new RateLimiter(10, Integer.MAX_VALUE);
+        // Drain the burst
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.acquire("busy", 1);
+        }
+        List<String> grants = Collections.synchronizedList(Lists.newArrayList());
+        List<Thread> threads = Lists.newArrayList();
+        for (int i = 0; i < 5; i++) {
+            threads.add(startAcquire(rateLimiter, "busy", grants));
+            waitForQueueDepth(rateLimiter, i + 1);
+        }
+        Assert.assertEquals(5, rateLimiter.getQueueDepth("busy"));
+        threads.add(startAcquire(rateLimiter, "quiet", grants));
+        waitForQueueDepth(rateLimiter, 6);
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertEquals(0, rateLimiter.getQueueDepth());
+        Assert.assertEquals(6, grants.size());
+        // The quiet project doesn't wait for all requests of the busy project
+        Assert.assertTrue(grants.toString(), grants.indexOf("quiet") <= 1);
+    }
+
+    private static Thread startAcquire(RateLimiter rateLimiter, String queue, List<String> grants) {
+        Thread thread = new Thread(() -> {
+            try {
+                rateLimiter.acquire(queue, 1);
+                grants.add(queue);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    private static void waitForQueueDepth(RateLimiter rateLimiter, int queueDepth) throws InterruptedException {
+        while (rateLimiter.getQueueDepth() < queueDepth) {
+            Thread.sleep(1);
+        }
+    }
+}
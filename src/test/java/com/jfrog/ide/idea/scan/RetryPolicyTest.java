@@ -0,0 +1,76 @@
+package com.jfrog.ide.idea.scan;
+
+import junit.framework.TestCase;
+import org.apache.http.client.HttpResponseException;
+import org.junit.Assert;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RetryPolicyTest extends TestCase {
+
+    private final long[] now = {0};
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(3, 1000, () -> now[0]);
+    private final RetryPolicy retryPolicy = new RetryPolicy(circuitBreaker, 3, 1, 1);
+
+    public void testRetryTransientErrors() throws IOException {
+        AtomicInteger attempts = new AtomicInteger();
+        String response = retryPolicy.execute(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new HttpResponseException(503, "Service Unavailable");
+            }
+            return "OK";
+        });
+        Assert.assertEquals("OK", response);
+        Assert.assertEquals(3, attempts.get());
+        Assert.assertFalse(circuitBreaker.isOpen());
+    }
+
+    public void testDontRetryClientErrors() {
+        AtomicInteger attempts = new AtomicInteger();
+        try {
+            retryPolicy.execute(() -> {
+                attempts.incrementAndGet();
+                throw new HttpResponseException(401, "Unauthorized");
+            });
+            Assert.fail("Expected the request error");
+        } catch (IOException e) {
+            Assert.assertEquals(1, attempts.get());
+            Assert.assertFalse(circuitBreaker.isOpen());
+        }
+    }
+
+    public void testCircuitBreaker() {
+        AtomicInteger attempts = new AtomicInteger();
+        try {
+            retryPolicy.execute(() -> {
+                attempts.incrementAndGet();
+                throw new SocketTimeoutException("Read timed out");
+            });
+            Assert.fail("Expected the request error");
+        } catch (IOException e) {
+            Assert.assertTrue(RetryPolicy.isTransient(e));
+        }
+        Assert.assertEquals(3, attempts.get());
+        Assert.assertTrue(circuitBreaker.isOpen());
+
+        // No probes before the probe interval passes
+        AtomicInteger probes = new AtomicInteger();
+        Assert.assertFalse(circuitBreaker.allowRequests(probes::incrementAndGet));
+        Assert.assertEquals(0, probes.get());
+
+        // Failed probe keeps the circuit open
+        now[0] += 1000;
+        Assert.assertFalse(circuitBreaker.allowRequests(() -> {
+            throw new SocketTimeoutException("Connect timed out");
+        }));
+        Assert.assertTrue(circuitBreaker.isOpen());
+
+        // Successful probe closes the circuit
+        now[0] += 1000;
+        Assert.assertTrue(circuitBreaker.allowRequests(probes::incrementAndGet));
+        Assert.assertEquals(1, probes.get());
+        Assert.assertFalse(circuitBreaker.isOpen());
+    }
+}
@@ -0,0 +1,25 @@
+package com.jfrog.ide.idea.scan;
+
+import junit.framework.TestCase;
+import org.junit.Assert;
+
+import java.util.function.Predicate;
+
+public class ScanUtilsTest extends TestCase {
+
+    public void testComponentsMatcher() {
+        Predicate<String> matcher = ScanUtils.createComponentsMatcher(" com.acme:*, @acme/*,github.com/acme/lib:v1.0.0 ");
+        Assert.assertTrue(matcher.test("com.acme:lib:1.0.0"));
+        Assert.assertTrue(matcher.test("@acme/ui:2.0.0"));
+        Assert.assertTrue(matcher.test("github.com/acme/lib:v1.0.0"));
+        Assert.assertFalse(matcher.test("com.acme.other:lib:1.0.0"));
+        Assert.assertFalse(matcher.test("github.com/acme/lib:v1.0.1"));
+        Assert.assertFalse(matcher.test("lodash:4.17.15"));
+    }
+
+    public void testEmptyComponentsMatcher() {
+        Assert.assertFalse(ScanUtils.createComponentsMatcher("").test("com.acme:lib:1.0.0"));
+        Assert.assertFalse(ScanUtils.createComponentsMatcher(null).test("com.acme:lib:1.0.0"));
+        Assert.assertFalse(ScanUtils.createComponentsMatcher(" , ").test(""));
+    }
+}
@@ -0,0 +1,165 @@
+package com.jfrog.ide.idea.scan;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import junit.framework.TestCase;
+import org.jfrog.build.extractor.scan.Artifact;
+import org.jfrog.build.extractor.scan.GeneralInfo;
+import org.junit.Assert;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class XrayRequestEngineTest extends TestCase {
+
+    private ExecutorService executor;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        executor.shutdownNow();
+        super.tearDown();
+    }
+
+    public void testConcurrentRequests() throws IOException {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        Set<String> fetched = ConcurrentHashMap.newKeySet();
+        XrayRequestEngine engine = new XrayRequestEngine((componentIds, timer) -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            componentIds.forEach(componentId -> Assert.assertTrue(fetched.add(componentId)));
+            inFlight.decrementAndGet();
+            return createArtifacts(componentIds);
+        }, executor, 4);
+
+        List<String> componentIds = createComponentIds(5000);
+        Set<String> consumed = Sets.newHashSet();
+        double[] lastProgress = {0};
+        engine.run(componentIds, (requested, artifacts) -> {
+            Assert.assertEquals(requested.size(), artifacts.size());
+            consumed.addAll(artifacts.keySet());
+        }, fraction -> lastProgress[0] = fraction);
+
+        Assert.assertEquals(5000, fetched.size());
+        Assert.assertEquals(Sets.newHashSet(componentIds), consumed);
+        Assert.assertEquals(1.0, lastProgress[0], 0);
+        Assert.assertEquals(4, maxInFlight.get());
+    }
+
+    public void testBatchSizeGrowsOnFastResponses() throws IOException {
+        XrayRequestEngine engine = new XrayRequestEngine((componentIds, timer) -> createArtifacts(componentIds), executor, 2);
+        engine.run(createComponentIds(10000), (requested, artifacts) -> {
+        }, fraction -> {
+        });
+        Assert.assertEquals(XrayRequestEngine.MAX_BATCH_SIZE, engine.getBatchSize());
+    }
+
+    public void testBatchSizeShrinksOnSlowResponses() throws IOException {
+        XrayRequestEngine engine = new XrayRequestEngine((componentIds, timer) -> {
+            try {
+                // Twice the target latency
+                Thread.sleep(XrayRequestEngine.TARGET_LATENCY_MILLIS * 2);
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            return createArtifacts(componentIds);
+        }, executor, 1);
+        engine.run(createComponentIds(XrayRequestEngine.INITIAL_BATCH_SIZE), (requested, artifacts) -> {
+        }, fraction -> {
+        });
+        Assert.assertTrue(engine.getBatchSize() <= XrayRequestEngine.INITIAL_BATCH_SIZE / 2);
+        Assert.assertTrue(engine.getBatchSize() >= XrayRequestEngine.MIN_BATCH_SIZE);
+    }
+
+    public void testThrottlingIsNotLatency() throws IOException {
+        XrayRequestEngine engine = new XrayRequestEngine((componentIds, timer) -> {
+            try {
+                // Throttled longer than the target latency before a fast request
+                Thread.sleep(XrayRequestEngine.TARGET_LATENCY_MILLIS + 200);
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            return timer.time(() -> createArtifacts(componentIds));
+        }, executor, 1);
+        engine.run(createComponentIds(XrayRequestEngine.INITIAL_BATCH_SIZE), (requested, artifacts) -> {
+        }, fraction -> {
+        });
+        Assert.assertEquals(XrayRequestEngine.INITIAL_BATCH_SIZE + XrayRequestEngine.BATCH_SIZE_INCREASE, engine.getBatchSize());
+    }
+
+    public void testBatchPayloadIsBounded() throws IOException {
+        String longName = String.join("", Collections.nCopies(4000, "x"));
+        List<String> componentIds = Lists.newArrayList();
+        for (int i = 0; i < XrayRequestEngine.INITIAL_BATCH_SIZE; i++) {
+            componentIds.add("@scope/" + longName + ":" + i);
+        }
+        List<Integer> batchSizes = Lists.newArrayList();
+        XrayRequestEngine engine = new XrayRequestEngine((batch, timer) -> {
+            long payload = batch.stream().mapToLong(componentId -> componentId.length() + XrayRequestEngine.COMPONENT_PAYLOAD_OVERHEAD).sum();
+            Assert.assertTrue(payload <= XrayRequestEngine.MAX_BATCH_PAYLOAD_BYTES);
+            return createArtifacts(batch);
+        }, executor, 1);
+        Set<String> consumed = Sets.newHashSet();
+        engine.run(componentIds, (requested, artifacts) -> {
+            batchSizes.add(requested.size());
+            consumed.addAll(artifacts.keySet());
+        }, fraction -> {
+        });
+        Assert.assertEquals(Sets.newHashSet(componentIds), consumed);
+        Assert.assertTrue(batchSizes.size() > 1);
+        Assert.assertTrue(batchSizes.get(0) < XrayRequestEngine.INITIAL_BATCH_SIZE);
+    }
+
+    public void testFailure() {
+        AtomicInteger requests = new AtomicInteger();
+        XrayRequestEngine engine = new XrayRequestEngine((componentIds, timer) -> {
+            if (requests.incrementAndGet() == 3) {
+                throw new IOException("Bad gateway");
+            }
+            return createArtifacts(componentIds);
+        }, executor, 1);
+        try {
+            engine.run(createComponentIds(1000), (requested, artifacts) -> {
+            }, fraction -> {
+            });
+            Assert.fail("Expected the request error");
+        } catch (IOException e) {
+            Assert.assertEquals("Bad gateway", e.getMessage());
+        }
+        Assert.assertEquals(3, requests.get());
+    }
+
+    private static List<String> createComponentIds(int count) {
+        List<String> componentIds = Lists.newArrayListWithCapacity(count);
+        for (int i = 0; i < count; i++) {
+            componentIds.add("a:b:" + i);
+        }
+        return componentIds;
+    }
+
+    private Map<String, Artifact> createArtifacts(List<String> componentIds) {
+        Map<String, Artifact> artifacts = Maps.newHashMap();
+        for (String componentId : componentIds) {
+            artifacts.put(componentId, new Artifact(new GeneralInfo().componentId(componentId), Sets.newHashSet(), Sets.newHashSet()));
+        }
+        return artifacts;
+    }
+}
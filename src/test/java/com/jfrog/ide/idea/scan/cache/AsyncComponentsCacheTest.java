@@ -0,0 +1,124 @@
+package com.jfrog.ide.idea.scan.cache;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import junit.framework.TestCase;
+import org.jfrog.build.extractor.scan.Artifact;
+import org.jfrog.build.extractor.scan.GeneralInfo;
+import org.jfrog.build.extractor.scan.Issue;
+import org.jfrog.build.extractor.scan.Severity;
+import org.junit.Assert;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+public class AsyncComponentsCacheTest extends TestCase {
+
+    private Path cacheDir;
+    private ExecutorService executor;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        cacheDir = Files.createTempDirectory("components-cache");
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        try (Stream<Path> files = Files.walk(cacheDir)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+        super.tearDown();
+    }
+
+    public void testWriteBehind() throws IOException {
+        Map<String, Artifact> artifacts = Maps.newHashMap();
+        for (int i = 0; i < 20000; i++) {
+            artifacts.put("a:b:" + i, createArtifact("a:b:" + i, "summary"));
+        }
+        try (ComponentsCache cache = ComponentsCache.open(cacheDir)) {
+            AsyncComponentsCache asyncCache = new AsyncComponentsCache(cache, executor, e -> Assert.fail(e.getMessage()));
+            asyncCache.putAll(artifacts);
+
+            // Pending and persisted components are both visible
+            Assert.assertTrue(asyncCache.isFresh("a:b:0"));
+            Assert.assertEquals("a:b:19999", asyncCache.get("a:b:19999").getGeneralInfo().getComponentId());
+            asyncCache.close();
+        }
+        try (ComponentsCache cache = ComponentsCache.open(cacheDir)) {
+            for (int i = 0; i < 20000; i++) {
+                Assert.assertTrue(cache.contains("a:b:" + i));
+            }
+        }
+    }
+
+    public void testLatestResultsWin() throws IOException {
+        try (ComponentsCache cache = ComponentsCache.open(cacheDir)) {
+            AsyncComponentsCache asyncCache = new AsyncComponentsCache(cache, executor, e -> Assert.fail(e.getMessage()));
+            for (int i = 0; i < 100; i++) {
+                Map<String, Artifact> artifacts = Maps.newHashMap();
+                artifacts.put("a:b:1", createArtifact("a:b:1", "summary " + i));
+                asyncCache.putAll(artifacts);
+            }
+            asyncCache.flush();
+            Assert.assertEquals("summary 99", cache.get("a:b:1").getIssues().iterator().next().getSummary());
+        }
+    }
+
+    public void testFailedWriteRetried() throws IOException {
+        AtomicBoolean fail = new AtomicBoolean(true);
+        ComponentsCache failingCache = ComponentsCache.open(new ComponentsCache(cacheDir) {
+            @Override
+            public void putAll(Map<String, Artifact> artifacts) throws IOException {
+                if (fail.getAndSet(false)) {
+                    throw new IOException("No space left on device");
+                }
+                super.putAll(artifacts);
+            }
+        });
+        try (ComponentsCache cache = failingCache) {
+            List<IOException> errors = Lists.newArrayList();
+            // The writer runs on the calling thread
+            AsyncComponentsCache asyncCache = new AsyncComponentsCache(cache, Runnable::run, errors::add);
+            Map<String, Artifact> artifacts = Maps.newHashMap();
+            artifacts.put("a:b:1", createArtifact("a:b:1", "summary"));
+            asyncCache.putAll(artifacts);
+            Assert.assertEquals(1, errors.size());
+
+            // The failed batch is still readable
+            Assert.assertFalse(cache.contains("a:b:1"));
+            Assert.assertEquals("summary", asyncCache.get("a:b:1").getIssues().iterator().next().getSummary());
+
+            // The next drain writes the failed batch
+            asyncCache.putNotFound(Lists.newArrayList("a:b:2"));
+            asyncCache.flush();
+            Assert.assertEquals(1, errors.size());
+            Assert.assertEquals("summary", cache.get("a:b:1").getIssues().iterator().next().getSummary());
+            Assert.assertTrue(cache.contains("a:b:2"));
+            asyncCache.close();
+        }
+        try (ComponentsCache cache = ComponentsCache.open(cacheDir)) {
+            Assert.assertTrue(cache.contains("a:b:1"));
+            Assert.assertTrue(cache.contains("a:b:2"));
+        }
+    }
+
+    private static Artifact createArtifact(String componentId, String summary) {
+        Issue issue = new Issue("", "", "security", "JFrog", Severity.High, summary, Lists.newArrayList());
+        return new Artifact(new GeneralInfo().componentId(componentId), Sets.newHashSet(issue), Sets.newHashSet());
+    }
+}
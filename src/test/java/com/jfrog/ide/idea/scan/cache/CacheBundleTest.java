@@ -0,0 +1,207 @@
+package com.jfrog.ide.idea.scan.cache;
+
+import com.google.common.collect.Lists;
+import junit.framework.TestCase;
+import org.jfrog.build.extractor.scan.Severity;
+import org.junit.Assert;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import static com.jfrog.ide.idea.scan.cache.ComponentsCacheTest.assertArtifact;
+import static com.jfrog.ide.idea.scan.cache.ComponentsCacheTest.createArtifact;
+
+public class CacheBundleTest extends TestCase {
+
+    private Path tempDir;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        tempDir = Files.createTempDirectory("cache-bundle");
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        try (Stream<Path> files = Files.walk(tempDir)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+        super.tearDown();
+    }
+
+    public void testExportAndImport() throws IOException {
+        Path bundle = tempDir.resolve("bundle.jfxc");
+        try (ComponentsCache cache = ComponentsCache.open(tempDir.resolve("source"))) {
+            for (int i = 0; i < 1000; i++) {
+                cache.put("a:b:" + i, createArtifact("a:b:" + i, Severity.High));
+            }
+            cache.putNotFound(Lists.newArrayList("com.acme:lib:1"));
+            Assert.assertEquals(1001, CacheBundle.export(bundle, cache, cache.getComponentIds(), fraction -> {
+            }));
+        }
+        try (ComponentsCache cache = ComponentsCache.open(tempDir.resolve("target"))) {
+            Assert.assertEquals(1001, CacheBundle.importBundle(bundle, cache, fraction -> {
+            }));
+            for (int i = 0; i < 1000; i++) {
+                assertArtifact(cache.get("a:b:" + i), "a:b:" + i, Severity.High);
+            }
+            Assert.assertNull(cache.getCachedComponent("com.acme:lib:1").getArtifact());
+        }
+    }
+
+    public void testExportSubset() throws IOException {
+        Path bundle = tempDir.resolve("bundle.jfxc");
+        try (ComponentsCache cache = ComponentsCache.open(tempDir.resolve("source"))) {
+            cache.put("a:b:1", createArtifact("a:b:1", Severity.High));
+            cache.put("a:b:2", createArtifact("a:b:2", Severity.High));
+            Assert.assertEquals(1, CacheBundle.export(bundle, cache, Lists.newArrayList("a:b:1", "a:b:3"), fraction -> {
+            }));
+        }
+        try (ComponentsCache cache = ComponentsCache.open(tempDir.resolve("target"))) {
+            CacheBundle.importBundle(bundle, cache, fraction -> {
+            });
+            Assert.assertTrue(cache.contains("a:b:1"));
+            Assert.assertFalse(cache.contains("a:b:2"));
+        }
+    }
+
+    public void testMergeKeepsNewer() throws IOException {
+        try (ComponentsCache cache = ComponentsCache.open(tempDir.resolve("cache"))) {
+            cache.put("a:b:1", createArtifact("a:b:1", Severity.High));
+            long fetchedAt = cache.getCachedComponent("a:b:1").getFetchedAt();
+            Assert.assertEquals(1, cache.merge(Lists.newArrayList(
+                    new CachedComponent("a:b:1", createArtifact("a:b:1", Severity.Low), fetchedAt - 1),
+                    new CachedComponent("a:b:2", createArtifact("a:b:2", Severity.Low), fetchedAt - 1)), fetchedAt));
+            assertArtifact(cache.get("a:b:1"), "a:b:1", Severity.High);
+            assertArtifact(cache.get("a:b:2"), "a:b:2", Severity.Low);
+
+            Assert.assertEquals(1, cache.merge(Lists.newArrayList(
+                    new CachedComponent("a:b:1", createArtifact("a:b:1", Severity.Critical), fetchedAt + 1)), fetchedAt + 1));
+            assertArtifact(cache.get("a:b:1"), "a:b:1", Severity.Critical);
+        }
+
+        // Bundle B holds newer results than bundle A, but is imported after it
+        long monthAgo = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(30);
+        long weekAgo = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(7);
+        Path bundleA = createBundle("a", new CachedComponent("a:b:3", createArtifact("a:b:3", Severity.Low), monthAgo));
+        Path bundleB = createBundle("b", new CachedComponent("a:b:3", createArtifact("a:b:3", Severity.Critical), weekAgo));
+        Path reexported = tempDir.resolve("reexported.jfxc");
+        try (ComponentsCache cache = ComponentsCache.open(tempDir.resolve("target"))) {
+            Assert.assertEquals(1, CacheBundle.importBundle(bundleA, cache, fraction -> {
+            }));
+            Assert.assertEquals(1, CacheBundle.importBundle(bundleB, cache, fraction -> {
+            }));
+            assertArtifact(cache.get("a:b:3"), "a:b:3", Severity.Critical);
+            Assert.assertEquals(weekAgo, cache.getCachedComponent("a:b:3").getFetchedAt());
+
+            // Importing the older bundle again changes nothing
+            Assert.assertEquals(0, CacheBundle.importBundle(bundleA, cache, fraction -> {
+            }));
+            CacheBundle.export(reexported, cache, cache.getComponentIds(), fraction -> {
+            });
+        }
+
+        // The original fetch time is exported
+        try (ComponentsCache cache = ComponentsCache.open(tempDir.resolve("team"))) {
+            CacheBundle.importBundle(reexported, cache, fraction -> {
+            });
+            Assert.assertEquals(weekAgo, cache.getCachedComponent("a:b:3").getFetchedAt());
+        }
+    }
+
+    private Path createBundle(String name, CachedComponent... components) throws IOException {
+        Path bundle = tempDir.resolve(name + ".jfxc");
+        try (ComponentsCache cache = ComponentsCache.open(tempDir.resolve(name))) {
+            cache.merge(Lists.newArrayList(components), System.currentTimeMillis());
+            CacheBundle.export(bundle, cache, cache.getComponentIds(), fraction -> {
+            });
+        }
+        return bundle;
+    }
+
+    public void testImportStartsTtl() throws IOException {
+        Path bundle = tempDir.resolve("bundle.jfxc");
+        long monthAgo = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(30);
+        try (ComponentsCache cache = ComponentsCache.open(tempDir.resolve("source"))) {
+            cache.merge(Lists.newArrayList(new CachedComponent("a:b:1", createArtifact("a:b:1", Severity.High), monthAgo),
+                    new CachedComponent("a:b:2", createArtifact("a:b:2", Severity.High), monthAgo)), monthAgo);
+            CacheBundle.export(bundle, cache, cache.getComponentIds(), fraction -> {
+            });
+        }
+        try (ComponentsCache cache = ComponentsCache.open(tempDir.resolve("target"))) {
+            // Results fetched locally after the bundle results were fetched are kept
+            cache.merge(Lists.newArrayList(new CachedComponent("a:b:2", createArtifact("a:b:2", Severity.Low), monthAgo + 1)), monthAgo + 1);
+            Assert.assertEquals(1, CacheBundle.importBundle(bundle, cache, fraction -> {
+            }));
+            Assert.assertEquals(monthAgo, cache.getCachedComponent("a:b:1").getFetchedAt());
+            assertArtifact(cache.get("a:b:2"), "a:b:2", Severity.Low);
+
+            // The TTL of the imported results starts at the import
+            cache.setEvictionPolicy(Long.MAX_VALUE, TimeUnit.DAYS.toMillis(7), TimeUnit.DAYS.toMillis(7));
+            Assert.assertTrue(cache.isFresh("a:b:1"));
+            Assert.assertFalse(cache.isFresh("a:b:2"));
+            Assert.assertEquals(1, cache.evict());
+            assertArtifact(cache.get("a:b:1"), "a:b:1", Severity.High);
+        }
+    }
+
+    public void testCorruptedLengths() throws IOException {
+        Path bundle = tempDir.resolve("bundle.jfxc");
+        for (int length : new int[]{Integer.MAX_VALUE, CacheBundle.MAX_STRING_BYTES + 1}) {
+            try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(Files.newOutputStream(bundle)))) {
+                out.writeInt(CacheBundle.MAGIC);
+                out.writeInt(CacheBundle.VERSION);
+                out.writeInt(1);
+                out.writeBoolean(true);
+                out.writeInt(length);
+            }
+            assertImportFails(bundle);
+        }
+
+        // A huge issues count
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(Files.newOutputStream(bundle)))) {
+            out.writeInt(CacheBundle.MAGIC);
+            out.writeInt(CacheBundle.VERSION);
+            out.writeInt(1);
+            out.writeBoolean(true);
+            out.writeInt(1);
+            out.write('a');
+            out.writeLong(0);
+            out.writeBoolean(false);
+            for (int i = 0; i < 3; i++) {
+                out.writeInt(-1);
+            }
+            out.writeInt(Integer.MAX_VALUE);
+        }
+        assertImportFails(bundle);
+    }
+
+    private void assertImportFails(Path bundle) throws IOException {
+        try (ComponentsCache cache = ComponentsCache.open(tempDir.resolve("cache"))) {
+            CacheBundle.importBundle(bundle, cache, fraction -> {
+            });
+            Assert.fail("Expected an invalid bundle error");
+        } catch (IOException e) {
+            // Expected
+        }
+    }
+
+    public void testInvalidBundle() throws IOException {
+        Path bundle = tempDir.resolve("bundle.jfxc");
+        Files.write(bundle, new byte[]{1, 2, 3});
+        try (ComponentsCache cache = ComponentsCache.open(tempDir.resolve("cache"))) {
+            CacheBundle.importBundle(bundle, cache, fraction -> {
+            });
+            Assert.fail("Expected an invalid bundle error");
+        } catch (IOException e) {
+            // Expected
+        }
+    }
+}
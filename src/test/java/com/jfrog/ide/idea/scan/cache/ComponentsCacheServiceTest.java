@@ -0,0 +1,49 @@
+package com.jfrog.ide.idea.scan.cache;
+
+import junit.framework.TestCase;
+import org.junit.Assert;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+public class ComponentsCacheServiceTest extends TestCase {
+
+    private Path cacheDir;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        cacheDir = Files.createTempDirectory("cache");
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        try (Stream<Path> files = Files.walk(cacheDir)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+        super.tearDown();
+    }
+
+    public void testDeleteLegacyCaches() throws IOException {
+        Files.write(cacheDir.resolve("projectXrayCache.json"), new byte[1024]);
+        Files.write(cacheDir.resolve("other-projectXrayCache.json"), new byte[1024]);
+        try (ComponentsCache cache = ComponentsCache.open(cacheDir.resolve("components"))) {
+            cache.put("a:b:1", ComponentsCache.createNotFoundArtifact("a:b:1"));
+        }
+
+        ComponentsCacheService.deleteLegacyCaches(cacheDir);
+        Assert.assertFalse(Files.exists(cacheDir.resolve("projectXrayCache.json")));
+        Assert.assertFalse(Files.exists(cacheDir.resolve("other-projectXrayCache.json")));
+        // The current cache is kept
+        try (ComponentsCache cache = ComponentsCache.open(cacheDir.resolve("components"))) {
+            Assert.assertTrue(cache.contains("a:b:1"));
+        }
+
+        // Missing cache directory
+        ComponentsCacheService.deleteLegacyCaches(cacheDir.resolve("missing"));
+    }
+}
@@ -0,0 +1,231 @@
+package com.jfrog.ide.idea.scan.cache;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import junit.framework.TestCase;
+import org.jfrog.build.extractor.scan.Artifact;
+import org.jfrog.build.extractor.scan.GeneralInfo;
+import org.jfrog.build.extractor.scan.Issue;
+import org.jfrog.build.extractor.scan.License;
+import org.jfrog.build.extractor.scan.Severity;
+import org.junit.Assert;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public class ComponentsCacheTest extends TestCase {
+
+    private Path cacheDir;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        cacheDir = Files.createTempDirectory("components-cache");
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        try (Stream<Path> files = Files.walk(cacheDir)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+        super.tearDown();
+    }
+
+    public void testPutAndGet() throws IOException {
+        try (ComponentsCache cache = ComponentsCache.open(cacheDir)) {
+            cache.put("a:b:1", createArtifact("a:b:1", Severity.High));
+            Assert.assertTrue(cache.contains("a:b:1"));
+            Assert.assertFalse(cache.contains("a:b:2"));
+            Assert.assertNull(cache.get("a:b:2"));
+            assertArtifact(cache.get("a:b:1"), "a:b:1", Severity.High);
+        }
+    }
+
+    public void testReopen() throws IOException {
+        try (ComponentsCache cache = ComponentsCache.open(cacheDir)) {
+            cache.put("a:b:1", createArtifact("a:b:1", Severity.Low));
+            cache.put("a:b:1", createArtifact("a:b:1", Severity.Critical));
+            cache.flush();
+        }
+        try (ComponentsCache cache = ComponentsCache.open(cacheDir)) {
+            assertArtifact(cache.get("a:b:1"), "a:b:1", Severity.Critical);
+        }
+    }
+
+    public void testCompactionRatio() throws IOException {
+        long recordSize;
+        try (StringTable strings = StringTable.open(cacheDir.resolve("strings-test"))) {
+            recordSize = RecordCodec.encode("a:b:1", createArtifact("a:b:1", Severity.High), 0, 0, strings).length;
+        }
+        try (ComponentsCache cache = ComponentsCache.open(cacheDir)) {
+            for (int i = 0; i < 100; i++) {
+                cache.put("a:b:1", createArtifact("a:b:1", Severity.High));
+            }
+        }
+        // The replaced records are garbage, and only the latest record is live
+        try (CacheIndex index = CacheIndex.open(cacheDir.resolve("components-0.idx"), 0)) {
+            Assert.assertEquals(recordSize, index.getLiveBytes());
+            Assert.assertEquals(100 * recordSize, index.getDataLength() - 8);
+        }
+
+        try (ComponentsCache cache = ComponentsCache.open(cacheDir)) {
+            for (long written = 0; written <= 1 << 20; written += recordSize) {
+                cache.put("a:b:1", createArtifact("a:b:1", Severity.High));
+            }
+            cache.flush();
+            assertArtifact(cache.get("a:b:1"), "a:b:1", Severity.High);
+        }
+        // The compaction left a single record, and the files of the previous generation were deleted
+        Assert.assertFalse(Files.exists(cacheDir.resolve("components-0.dat")));
+        Assert.assertFalse(Files.exists(cacheDir.resolve("components-0.idx")));
+        Assert.assertFalse(Files.exists(cacheDir.resolve("strings-0")));
+        try (CacheIndex index = CacheIndex.open(cacheDir.resolve("components-1.idx"), 0)) {
+            Assert.assertEquals(1, index.size());
+            Assert.assertEquals(recordSize, index.getLiveBytes());
+            Assert.assertEquals(recordSize, index.getDataLength() - 8);
+        }
+    }
+
+    public void testStaleGenerationsDeleted() throws IOException {
+        try (ComponentsCache cache = ComponentsCache.open(cacheDir)) {
+            cache.put("a:b:1", createArtifact("a:b:1", Severity.Low));
+        }
+        // Files left behind by an interrupted compaction or by a generation which was mapped when it was replaced
+        Files.write(cacheDir.resolve("components-7.dat"), new byte[]{1, 2, 3});
+        Files.write(cacheDir.resolve("components-7.idx"), new byte[]{1, 2, 3});
+        Files.write(cacheDir.resolve("strings-7"), new byte[]{1, 2, 3});
+        try (ComponentsCache cache = ComponentsCache.open(cacheDir)) {
+            assertArtifact(cache.get("a:b:1"), "a:b:1", Severity.Low);
+        }
+        Assert.assertFalse(Files.exists(cacheDir.resolve("components-7.dat")));
+        Assert.assertFalse(Files.exists(cacheDir.resolve("components-7.idx")));
+        Assert.assertFalse(Files.exists(cacheDir.resolve("strings-7")));
+        Assert.assertTrue(Files.exists(cacheDir.resolve("components-0.dat")));
+    }
+
+    public void testGrowth() throws IOException {
+        try (ComponentsCache cache = ComponentsCache.open(cacheDir)) {
+            for (int i = 0; i < 10000; i++) {
+                cache.put("a:b:" + i, createArtifact("a:b:" + i, Severity.Medium));
+            }
+            cache.flush();
+        }
+        try (ComponentsCache cache = ComponentsCache.open(cacheDir)) {
+            for (int i = 0; i < 10000; i++) {
+                assertArtifact(cache.get("a:b:" + i), "a:b:" + i, Severity.Medium);
+            }
+        }
+    }
+
+    public void testSharedCache() throws IOException {
+        try (ComponentsCache first = ComponentsCache.open(cacheDir); ComponentsCache second = ComponentsCache.open(cacheDir)) {
+            first.put("a:b:1", createArtifact("a:b:1", Severity.High));
+            assertArtifact(second.get("a:b:1"), "a:b:1", Severity.High);
+
+            second.put("a:b:2", createArtifact("a:b:2", Severity.Low));
+            assertArtifact(first.get("a:b:2"), "a:b:2", Severity.Low);
+
+            // Compaction in one instance should be visible in the other
+            Map<String, Artifact> artifacts = Maps.newHashMap();
+            for (int i = 3; i < 5000; i++) {
+                artifacts.put("a:b:" + i, createArtifact("a:b:" + i, Severity.Medium));
+            }
+            first.putAll(artifacts);
+            assertArtifact(second.get("a:b:1"), "a:b:1", Severity.High);
+            assertArtifact(second.get("a:b:4999"), "a:b:4999", Severity.Medium);
+        }
+    }
+
+    public void testExpiry() throws IOException {
+        try (ComponentsCache cache = ComponentsCache.open(cacheDir)) {
+            cache.put("a:b:1", createArtifact("a:b:1", Severity.High));
+            Assert.assertTrue(cache.isFresh("a:b:1"));
+            Assert.assertFalse(cache.isFresh("a:b:2"));
+
+            cache.setEvictionPolicy(Long.MAX_VALUE, 0, 0);
+            Assert.assertFalse(cache.isFresh("a:b:1"));
+            Assert.assertEquals(1, cache.evict());
+            Assert.assertFalse(cache.contains("a:b:1"));
+        }
+    }
+
+    public void testLruEviction() throws IOException, InterruptedException {
+        long recordSize;
+        try (StringTable strings = StringTable.open(cacheDir.resolve("strings-test"))) {
+            recordSize = RecordCodec.encode("a:b:1", createArtifact("a:b:1", Severity.High), 0, 0, strings).length;
+        }
+        try (ComponentsCache cache = ComponentsCache.open(cacheDir)) {
+            for (int i = 1; i <= 3; i++) {
+                cache.put("a:b:" + i, createArtifact("a:b:" + i, Severity.High));
+                Thread.sleep(2);
+            }
+            // Access the oldest record to make a:b:2 the least recently used
+            cache.get("a:b:1");
+            cache.setEvictionPolicy(recordSize * 2, Long.MAX_VALUE, Long.MAX_VALUE);
+            Assert.assertEquals(1, cache.evict());
+            Assert.assertTrue(cache.contains("a:b:1"));
+            Assert.assertFalse(cache.contains("a:b:2"));
+            assertArtifact(cache.get("a:b:3"), "a:b:3", Severity.High);
+        }
+    }
+
+    public void testNotFound() throws IOException {
+        try (ComponentsCache cache = ComponentsCache.open(cacheDir)) {
+            cache.putNotFound(Lists.newArrayList("com.acme:lib:1"));
+            Artifact artifact = cache.get("com.acme:lib:1");
+            Assert.assertNotNull(artifact);
+            Assert.assertEquals("com.acme:lib:1", artifact.getGeneralInfo().getComponentId());
+            Assert.assertTrue(artifact.getIssues().isEmpty());
+            Assert.assertNull(cache.getCachedComponent("com.acme:lib:1").getArtifact());
+            Assert.assertTrue(cache.isFresh("com.acme:lib:1"));
+
+            // Not found records have a TTL of their own
+            cache.put("a:b:1", createArtifact("a:b:1", Severity.High));
+            cache.setEvictionPolicy(Long.MAX_VALUE, Long.MAX_VALUE, 0);
+            Assert.assertFalse(cache.isFresh("com.acme:lib:1"));
+            Assert.assertTrue(cache.isFresh("a:b:1"));
+            Assert.assertEquals(1, cache.evict());
+            Assert.assertFalse(cache.contains("com.acme:lib:1"));
+            assertArtifact(cache.get("a:b:1"), "a:b:1", Severity.High);
+        }
+    }
+
+    public void testCorruptedCache() throws IOException {
+        try (ComponentsCache cache = ComponentsCache.open(cacheDir)) {
+            cache.put("a:b:1", createArtifact("a:b:1", Severity.Low));
+        }
+        Files.write(cacheDir.resolve("components-0.idx"), new byte[]{1, 2, 3});
+        try (ComponentsCache cache = ComponentsCache.open(cacheDir)) {
+            Assert.assertNull(cache.get("a:b:1"));
+            cache.put("a:b:1", createArtifact("a:b:1", Severity.Low));
+            assertArtifact(cache.get("a:b:1"), "a:b:1", Severity.Low);
+        }
+    }
+
+    static Artifact createArtifact(String componentId, Severity severity) {
+        GeneralInfo generalInfo = new GeneralInfo().componentId(componentId).name("b").pkgType("maven");
+        Issue issue = new Issue("2020-01-01", "description", "security", "JFrog", severity, "summary", Lists.newArrayList("[2.0]"));
+        License license = new License(Lists.newArrayList(componentId), "Apache License 2.0", "Apache-2.0", Lists.newArrayList());
+        return new Artifact(generalInfo, Sets.newHashSet(issue), Sets.newHashSet(license));
+    }
+
+    static void assertArtifact(Artifact artifact, String componentId, Severity severity) {
+        Assert.assertNotNull(artifact);
+        Assert.assertEquals(componentId, artifact.getGeneralInfo().getComponentId());
+        Assert.assertEquals("maven", artifact.getGeneralInfo().getPkgType());
+        Assert.assertNull(artifact.getGeneralInfo().getPath());
+        Assert.assertEquals(1, artifact.getIssues().size());
+        Issue issue = artifact.getIssues().iterator().next();
+        Assert.assertEquals(severity, issue.getSeverity());
+        Assert.assertEquals("summary", issue.getSummary());
+        Assert.assertEquals(Lists.newArrayList("[2.0]"), issue.getFixedVersions());
+        Assert.assertEquals(1, artifact.getLicenses().size());
+        Assert.assertEquals("Apache-2.0", artifact.getLicenses().iterator().next().getName());
+    }
+}
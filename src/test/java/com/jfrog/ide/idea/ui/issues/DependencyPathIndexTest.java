@@ -0,0 +1,52 @@
+package com.jfrog.ide.idea.ui.issues;
+
+import com.google.common.collect.Lists;
+import junit.framework.TestCase;
+import org.jfrog.build.extractor.scan.DependenciesTree;
+import org.junit.Assert;
+
+import java.util.Collections;
+
+public class DependencyPathIndexTest extends TestCase {
+
+    private DependenciesTree project;
+    private DependenciesTree module;
+    private DependenciesTree dependency;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        project = new DependenciesTree("project");
+        module = new DependenciesTree("module");
+        dependency = new DependenciesTree("a:b:1.0.0");
+        project.add(module);
+        project.add(new DependenciesTree("other"));
+        module.add(new DependenciesTree("c:d:1.0.0"));
+        module.add(dependency);
+        dependency.add(new DependenciesTree("e:f:1.0.0"));
+    }
+
+    public void testGet() {
+        DependencyPathIndex index = new DependencyPathIndex(project);
+        Assert.assertSame(project, index.get(Collections.emptyList()));
+        Assert.assertSame(module, index.get(Lists.newArrayList("module")));
+        Assert.assertSame(dependency, index.get(Lists.newArrayList("module", "a:b:1.0.0")));
+        Assert.assertSame(dependency.getChildAt(0), index.get(Lists.newArrayList("module", "a:b:1.0.0", "e:f:1.0.0")));
+        // Resolve again using the indexed children
+        Assert.assertSame(dependency, index.get(Lists.newArrayList("module", "a:b:1.0.0")));
+    }
+
+    public void testNotFound() {
+        DependencyPathIndex index = new DependencyPathIndex(project);
+        Assert.assertNull(index.get(Lists.newArrayList("a:b:1.0.0")));
+        Assert.assertNull(index.get(Lists.newArrayList("module", "e:f:1.0.0")));
+        Assert.assertNull(index.get(Lists.newArrayList("module", "a:b:1.0.0", "e:f:1.0.0", "g:h:1.0.0")));
+    }
+
+    public void testFirstSiblingWins() {
+        DependenciesTree duplicate = new DependenciesTree("a:b:1.0.0");
+        module.add(duplicate);
+        DependencyPathIndex index = new DependencyPathIndex(project);
+        Assert.assertSame(dependency, index.get(Lists.newArrayList("module", "a:b:1.0.0")));
+    }
+}
@@ -0,0 +1,13 @@
+module github.com/jfrog/vendorTest
+
+require (
+    github.com/jfrog/gocmd v0.1.12
+    github.com/jfrog/gofrog v1.0.5
+    github.com/jfrog/localmodule v1.0.0
+)
+
+replace github.com/jfrog/gocmd => github.com/jfrog/gocmd v0.1.10
+
+replace github.com/jfrog/localmodule => ../localmodule
+
+go 1.14